@@ -0,0 +1,76 @@
+package com.fastcampus.toyproject.common.util.api.service;
+
+import com.fastcampus.toyproject.common.util.api.dto.Document;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * kakao 응답 전체를 tree 로 읽는 방식과 첫 번째 장소만 읽는 streaming parsing 비교.
+ * 실행 : ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KakaoResponseParserBenchmark {
+
+    // size=1 요청 응답과, size 를 지정하지 않은 기존 요청(기본 15건) 응답
+    @Param({"1", "15"})
+    private int documentCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final KakaoResponseParser responseParser =
+        new KakaoResponseParser(objectMapper.getFactory());
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        StringBuilder json = new StringBuilder("{\"documents\":[");
+        for (int i = 0; i < documentCount; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"address_name\":\"서울 종로구 세종로 1-91\",")
+                .append("\"category_group_code\":\"AT4\",")
+                .append("\"category_group_name\":\"관광명소\",")
+                .append("\"category_name\":\"여행 > 관광,명소 > 고궁,궁\",")
+                .append("\"distance\":\"\",")
+                .append("\"id\":\"").append(10_000 + i).append("\",")
+                .append("\"phone\":\"02-3700-3900\",")
+                .append("\"place_name\":\"경복궁 ").append(i).append("\",")
+                .append("\"place_url\":\"http://place.map.kakao.com/").append(10_000 + i).append("\",")
+                .append("\"road_address_name\":\"서울 종로구 사직로 161\",")
+                .append("\"x\":\"126.97722337399\",")
+                .append("\"y\":\"37.5788222356529\"}");
+        }
+        json.append("],\"meta\":{\"is_end\":false,\"pageable_count\":45,")
+            .append("\"same_name\":{\"keyword\":\"경복궁\",\"region\":[],\"selected_region\":\"\"},")
+            .append("\"total_count\":")
+            .append(documentCount).append("}}");
+        body = json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String fullTree() throws IOException {
+        JsonNode response = objectMapper.readTree(new ByteArrayInputStream(body));
+        return response.get("documents").get(0).get("place_name").asText();
+    }
+
+    @Benchmark
+    public String streamingFirstDocument() throws IOException {
+        Optional<Document> place = responseParser.parseFirstDocument(new ByteArrayInputStream(body));
+        return place.get().getPlaceName();
+    }
+}
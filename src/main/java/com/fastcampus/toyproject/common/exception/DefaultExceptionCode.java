@@ -12,6 +12,8 @@ public enum DefaultExceptionCode implements ExceptionCode {
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_SERVER_ERROR" ,"서버에 오류가 발생했습니다."),
     BAD_REQUEST(HttpStatus.BAD_REQUEST, "BAD_REQUEST", "잘못된 요청 입니다."),
     STARTDATE_IS_LATER_THAN_ENDDATE(HttpStatus.BAD_REQUEST, "STARTDATE_IS_LATER_THAN_ENDDATE", "출발 일정이 도착 일정보다 늦습니다."),
+    LOCATION_SEARCH_FAILED(HttpStatus.BAD_GATEWAY, "LOCATION_SEARCH_FAILED", "장소 검색 API 호출에 실패했습니다."),
+    LOCATION_SEARCH_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "LOCATION_SEARCH_UNAVAILABLE", "장소 검색 API 를 일시적으로 사용할 수 없습니다."),
     ;
 
     private final HttpStatus status;
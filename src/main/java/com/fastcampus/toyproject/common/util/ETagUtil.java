@@ -0,0 +1,45 @@
+package com.fastcampus.toyproject.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import org.springframework.http.CacheControl;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 조회 응답의 ETag 를 만드는 공통 유틸 클래스.
+ * 응답 body 대신 버전 정보(수정일시, 개수 등)로 만들기 때문에 body 를 만들지 않고도 변경 여부를 비교할 수 있다.
+ */
+public class ETagUtil {
+
+    // 응답을 저장하되 매번 If-None-Match 로 재검증하도록 하는 Cache-Control (기본값 no-store 대신 사용)
+    public static final String REVALIDATE_CACHE_CONTROL =
+        CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private ETagUtil() {
+    }
+
+    /**
+     * 버전 정보들을 이어 붙여 hash 한 값 반환 (따옴표 없는 strong ETag 값)
+     *
+     * @param parts
+     * @return etag
+     */
+    public static String fromParts(Object... parts) {
+        String joined = Arrays.stream(parts)
+            .map(part -> Objects.toString(part, "-"))
+            .collect(Collectors.joining("|"));
+        return DigestUtils.md5DigestAsHex(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * ETag header 형식(따옴표로 감싼 값)으로 변환
+     *
+     * @param etag
+     * @return quotedETag
+     */
+    public static String quote(String etag) {
+        return "\"" + etag + "\"";
+    }
+}
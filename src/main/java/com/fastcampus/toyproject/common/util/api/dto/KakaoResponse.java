@@ -1,20 +0,0 @@
-package com.fastcampus.toyproject.common.util.api.dto;
-
-import java.util.List;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import com.fasterxml.jackson.annotation.JsonProperty;
-
-@Getter
-@NoArgsConstructor
-@AllArgsConstructor
-public class KakaoResponse {
-
-    @JsonProperty("meta")
-    private Meta meta;
-
-    @JsonProperty("documents")
-    private List<Document> documentList;
-
-}
@@ -0,0 +1,180 @@
+package com.fastcampus.toyproject.common.util.api.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import lombok.Builder;
+
+/**
+ * 외부 API quota 를 넘지 않도록 호출 속도를 조절하는 token bucket 과 적응형 동시 호출 제한.
+ * <p>
+ * 초당 permit 수만큼 token 이 채워지고, token 이 없으면 최대 대기 시간까지 기다린다.
+ * 응답이 목표 지연 시간 안에 오면 동시 호출 수/permit 속도를 조금씩 늘리고 (additive increase),
+ * 느린 응답은 동시 호출 수를, 429(Too Many Requests) 는 둘 다 절반으로 줄인다 (multiplicative decrease).
+ */
+public class AdaptiveRateLimiter {
+
+    private static final double SLOW_DECREASE_RATIO = 0.9;
+    private static final double THROTTLED_DECREASE_RATIO = 0.5;
+    private static final double RATE_INCREASE_RATIO = 0.01;
+
+    private final double maxPermitsPerSecond;
+    private final double minPermitsPerSecond;
+    private final double burst;
+    private final int minConcurrency;
+    private final int maxConcurrency;
+    private final long targetLatencyNanos;
+    private final long maxWaitNanos;
+    private final LongSupplier ticker;
+
+    private double permitsPerSecond;
+    private double storedPermits;
+    private long lastRefillAt;
+    private double concurrencyLimit;
+    private int inFlight;
+
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong throttledCount = new AtomicLong();
+
+    /**
+     * @param permitsPerSecond    최대 초당 호출 수 (quota)
+     * @param minPermitsPerSecond 429 로 줄어들 수 있는 최소 초당 호출 수
+     * @param burst               순간적으로 허용하는 최대 token 수
+     * @param minConcurrency      최소 동시 호출 수
+     * @param maxConcurrency      최대 동시 호출 수
+     * @param targetLatency       이 시간보다 느린 응답은 동시 호출 수를 줄인다
+     * @param maxWait             token 을 기다리는 최대 시간
+     * @param ticker              나노초 시계 (테스트용, null 이면 System.nanoTime)
+     */
+    @Builder
+    private AdaptiveRateLimiter(
+        double permitsPerSecond, double minPermitsPerSecond, int burst,
+        int minConcurrency, int maxConcurrency, Duration targetLatency, Duration maxWait,
+        LongSupplier ticker
+    ) {
+        if (permitsPerSecond <= 0 || minConcurrency <= 0 || maxConcurrency < minConcurrency) {
+            throw new IllegalArgumentException("permitsPerSecond > 0, 0 < minConcurrency <= maxConcurrency");
+        }
+        this.maxPermitsPerSecond = permitsPerSecond;
+        this.minPermitsPerSecond = Math.min(Math.max(minPermitsPerSecond, 0.1), permitsPerSecond);
+        this.burst = Math.max(burst, 1);
+        this.minConcurrency = minConcurrency;
+        this.maxConcurrency = maxConcurrency;
+        this.targetLatencyNanos = targetLatency.toNanos();
+        this.maxWaitNanos = maxWait.toNanos();
+        this.ticker = ticker == null ? System::nanoTime : ticker;
+
+        this.permitsPerSecond = permitsPerSecond;
+        this.storedPermits = this.burst;
+        this.lastRefillAt = this.ticker.getAsLong();
+        this.concurrencyLimit = maxConcurrency;
+    }
+
+    /**
+     * token 과 동시 호출 자리를 얻으면 true. true 를 받은 경우 onComplete / onThrottled / release 중 하나를 호출해야 한다.
+     *
+     * @return acquired
+     */
+    public boolean tryAcquire() {
+        long waitNanos;
+        synchronized (this) {
+            if (inFlight >= (int) concurrencyLimit) {
+                rejectedCount.incrementAndGet();
+                return false;
+            }
+            refill();
+            waitNanos = storedPermits >= 1
+                ? 0 : (long) ((1 - storedPermits) / permitsPerSecond * TimeUnit.SECONDS.toNanos(1));
+            if (waitNanos > maxWaitNanos) {
+                rejectedCount.incrementAndGet();
+                return false;
+            }
+            // 음수가 되면 이후 요청들이 그만큼 더 기다린다 (예약)
+            storedPermits -= 1;
+            inFlight++;
+        }
+
+        if (waitNanos > 0) {
+            waiting.incrementAndGet();
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                release();
+                rejectedCount.incrementAndGet();
+                return false;
+            } finally {
+                waiting.decrementAndGet();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 호출 완료 (429 이외의 응답 / 오류). 지연 시간에 따라 동시 호출 수와 속도를 조정
+     *
+     * @param latencyNanos
+     */
+    public synchronized void onComplete(long latencyNanos) {
+        inFlight--;
+        if (latencyNanos <= targetLatencyNanos) {
+            concurrencyLimit = Math.min(maxConcurrency, concurrencyLimit + 1 / concurrencyLimit);
+            permitsPerSecond = Math.min(maxPermitsPerSecond,
+                permitsPerSecond + maxPermitsPerSecond * RATE_INCREASE_RATIO);
+        } else {
+            concurrencyLimit = Math.max(minConcurrency, concurrencyLimit * SLOW_DECREASE_RATIO);
+        }
+    }
+
+    /**
+     * 429(quota 초과) 응답. 동시 호출 수와 속도를 절반으로 줄인다
+     */
+    public synchronized void onThrottled() {
+        inFlight--;
+        throttledCount.incrementAndGet();
+        concurrencyLimit = Math.max(minConcurrency, concurrencyLimit * THROTTLED_DECREASE_RATIO);
+        permitsPerSecond = Math.max(minPermitsPerSecond, permitsPerSecond * THROTTLED_DECREASE_RATIO);
+        storedPermits = Math.min(storedPermits, 0);
+    }
+
+    /**
+     * 호출하지 않고 자리만 반환 (조정 없음)
+     */
+    public synchronized void release() {
+        inFlight--;
+    }
+
+    public synchronized double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public synchronized int getConcurrencyLimit() {
+        return (int) concurrencyLimit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public int getQueueDepth() {
+        return waiting.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public long getThrottledCount() {
+        return throttledCount.get();
+    }
+
+    private void refill() {
+        long now = ticker.getAsLong();
+        double refilled = (now - lastRefillAt) * permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        storedPermits = Math.min(burst, storedPermits + refilled);
+        lastRefillAt = now;
+    }
+}
@@ -0,0 +1,182 @@
+package com.fastcampus.toyproject.common.util.api.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 외부 API 호출용 circuit breaker.
+ * 최근 N 번 호출 중 실패 비율 또는 느린 호출 비율이 기준을 넘으면 OPEN 되어 호출을 바로 거절하고,
+ * 대기 시간이 지나면 HALF_OPEN 으로 일부 호출만 허용해 회복 여부를 판단한다.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final int FAILED = 1;
+    private static final int SLOW = 2;
+
+    private final String name;
+    private final int failureRateThreshold;
+    private final int slowCallRateThreshold;
+    private final long slowCallDurationNanos;
+    private final int minimumNumberOfCalls;
+    private final long waitDurationInOpenNanos;
+    private final int permittedCallsInHalfOpen;
+    private final LongSupplier ticker;
+
+    // 최근 호출 결과 (count 기반 sliding window)
+    private final int[] outcomes;
+    private int nextIndex;
+    private int recordedCalls;
+    private int failedCalls;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+
+    private final AtomicLong notPermittedCount = new AtomicLong();
+
+    /**
+     * @param name                     로그용 이름
+     * @param failureRateThreshold     OPEN 으로 전환할 실패 비율 (%)
+     * @param slowCallRateThreshold    OPEN 으로 전환할 느린 호출 비율 (%)
+     * @param slowCallDuration         이 시간 이상 걸린 호출은 느린 호출로 기록
+     * @param slidingWindowSize        비율 계산에 쓰는 최근 호출 수
+     * @param minimumNumberOfCalls     비율 계산을 시작하는 최소 호출 수
+     * @param waitDurationInOpen       OPEN 유지 시간
+     * @param permittedCallsInHalfOpen HALF_OPEN 에서 허용하는 시험 호출 수
+     * @param ticker                   나노초 시계 (테스트용, null 이면 System.nanoTime)
+     */
+    @Builder
+    private CircuitBreaker(
+        String name, int failureRateThreshold, int slowCallRateThreshold,
+        Duration slowCallDuration, int slidingWindowSize, int minimumNumberOfCalls,
+        Duration waitDurationInOpen, int permittedCallsInHalfOpen, LongSupplier ticker
+    ) {
+        if (slidingWindowSize <= 0 || permittedCallsInHalfOpen <= 0) {
+            throw new IllegalArgumentException("slidingWindowSize, permittedCallsInHalfOpen > 0");
+        }
+        this.name = name;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallDurationNanos = slowCallDuration.toNanos();
+        this.minimumNumberOfCalls = Math.min(minimumNumberOfCalls, slidingWindowSize);
+        this.waitDurationInOpenNanos = waitDurationInOpen.toNanos();
+        this.permittedCallsInHalfOpen = Math.min(permittedCallsInHalfOpen, slidingWindowSize);
+        this.ticker = ticker == null ? System::nanoTime : ticker;
+        this.outcomes = new int[slidingWindowSize];
+    }
+
+    /**
+     * 호출 가능 여부. OPEN 이면 false (대기 시간이 지났으면 HALF_OPEN 으로 전환)
+     *
+     * @return permitted
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (ticker.getAsLong() - openedAt < waitDurationInOpenNanos) {
+                notPermittedCount.incrementAndGet();
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits == 0) {
+                notPermittedCount.incrementAndGet();
+                return false;
+            }
+            halfOpenPermits--;
+        }
+        return true;
+    }
+
+    /**
+     * 허용받았지만 호출하지 않은 경우 (다른 제한에 걸린 경우) HALF_OPEN 시험 호출 자리를 돌려준다
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && halfOpenPermits < permittedCallsInHalfOpen) {
+            halfOpenPermits++;
+        }
+    }
+
+    public synchronized void onSuccess(long durationNanos) {
+        record(0, durationNanos);
+    }
+
+    public synchronized void onError(long durationNanos) {
+        record(FAILED, durationNanos);
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public long getNotPermittedCount() {
+        return notPermittedCount.get();
+    }
+
+    private void record(int outcome, long durationNanos) {
+        if (state == State.OPEN) {
+            // OPEN 전에 시작된 호출의 결과는 무시
+            return;
+        }
+        if (durationNanos >= slowCallDurationNanos) {
+            outcome |= SLOW;
+        }
+
+        if (recordedCalls == outcomes.length) {
+            countOutcome(outcomes[nextIndex], -1);
+        } else {
+            recordedCalls++;
+        }
+        outcomes[nextIndex] = outcome;
+        countOutcome(outcome, 1);
+        nextIndex = (nextIndex + 1) % outcomes.length;
+
+        if (state == State.HALF_OPEN) {
+            if (recordedCalls >= permittedCallsInHalfOpen) {
+                transitionTo(isThresholdExceeded() ? State.OPEN : State.CLOSED);
+            }
+        } else if (recordedCalls >= minimumNumberOfCalls && isThresholdExceeded()) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void countOutcome(int outcome, int delta) {
+        if ((outcome & FAILED) != 0) {
+            failedCalls += delta;
+        }
+        if ((outcome & SLOW) != 0) {
+            slowCalls += delta;
+        }
+    }
+
+    private boolean isThresholdExceeded() {
+        return failedCalls * 100 >= failureRateThreshold * recordedCalls
+            || slowCalls * 100 >= slowCallRateThreshold * recordedCalls;
+    }
+
+    private void transitionTo(State newState) {
+        log.warn("[CircuitBreaker:{}] {} -> {} (failed: {}, slow: {}, calls: {})",
+            name, state, newState, failedCalls, slowCalls, recordedCalls);
+        state = newState;
+        nextIndex = 0;
+        recordedCalls = 0;
+        failedCalls = 0;
+        slowCalls = 0;
+
+        if (newState == State.OPEN) {
+            openedAt = ticker.getAsLong();
+        } else if (newState == State.HALF_OPEN) {
+            halfOpenPermits = permittedCallsInHalfOpen;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.fastcampus.toyproject.common.util.api.resolver;
+
+import com.fastcampus.toyproject.common.util.api.dto.Document;
+import com.fastcampus.toyproject.common.util.cache.CacheStats;
+import com.fastcampus.toyproject.common.util.cache.ExpiringLruCache;
+import com.fastcampus.toyproject.common.util.cache.SingleFlight;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 다른 resolver 의 결과를 캐싱하는 decorator.
+ * 자주 쓰이는 장소(서울역, 제주공항 ...)는 원격 호출 없이 응답하고,
+ * 같은 keyword 에 대한 동시 요청은 호출 1번으로 합친다.
+ */
+public class CachingLocationResolver implements LocationResolver {
+
+    private final LocationResolver delegate;
+    private final Duration ttl;
+    // 검색 결과가 없는 keyword 도 캐싱하되, 새로 등록될 수 있으므로 짧게 유지
+    private final Duration negativeTtl;
+
+    private final ExpiringLruCache<String, Optional<Document>> placeCache;
+    private final SingleFlight<String, Optional<Document>> inFlightSearches = new SingleFlight<>();
+
+    public CachingLocationResolver(
+        LocationResolver delegate, int maxSize, Duration ttl, Duration negativeTtl
+    ) {
+        this.delegate = delegate;
+        this.ttl = ttl;
+        this.negativeTtl = negativeTtl;
+        this.placeCache = new ExpiringLruCache<>(maxSize, ttl);
+    }
+
+    /**
+     * 캐시에 없으면 delegate 로 검색 후 캐싱. 검색할 수 없어 발생한 예외는 캐싱하지 않는다.
+     *
+     * @param keyword
+     * @return place
+     */
+    @Override
+    public Optional<Document> resolve(String keyword) {
+        String cacheKey = LocationResolver.normalizeKeyword(keyword);
+        Optional<Document> place = placeCache.get(cacheKey);
+        if (place != null) {
+            return place;
+        }
+
+        return inFlightSearches.execute(cacheKey, () -> {
+            Optional<Document> result = delegate.resolve(keyword);
+            placeCache.put(cacheKey, result, result.isPresent() ? ttl : negativeTtl);
+            return result;
+        });
+    }
+
+    /**
+     * 장소 캐시의 적중/미스/제거 횟수 반환 (캐시 크기 조정용)
+     *
+     * @return CacheStats
+     */
+    public CacheStats getPlaceCacheStats() {
+        return placeCache.stats();
+    }
+
+    /**
+     * 동시 요청이 합쳐진 횟수 반환 (원격 호출을 절약한 횟수)
+     *
+     * @return coalescedCount
+     */
+    public long getCoalescedSearchCount() {
+        return inFlightSearches.getCoalescedCount();
+    }
+}
@@ -0,0 +1,28 @@
+package com.fastcampus.toyproject.common.util.api.resolver;
+
+import com.fastcampus.toyproject.common.util.api.dto.Document;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 여러 resolver 를 순서대로 시도하여 처음 찾은 결과를 반환하는 resolver (예: 사전 -> kakao)
+ */
+public class ChainedLocationResolver implements LocationResolver {
+
+    private final List<LocationResolver> resolvers;
+
+    public ChainedLocationResolver(List<LocationResolver> resolvers) {
+        this.resolvers = List.copyOf(resolvers);
+    }
+
+    @Override
+    public Optional<Document> resolve(String keyword) {
+        for (LocationResolver resolver : resolvers) {
+            Optional<Document> place = resolver.resolve(keyword);
+            if (place.isPresent()) {
+                return place;
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,81 @@
+package com.fastcampus.toyproject.common.util.api.resolver;
+
+import com.fastcampus.toyproject.common.util.api.dto.Document;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+
+/**
+ * 파일로 미리 정의한 장소 사전에서 검색하는 resolver (네트워크 없이 동작).
+ * <p>
+ * 파일 형식 (UTF-8, tab 구분, # 으로 시작하는 줄은 주석) :
+ * <pre>
+ * keyword	장소 이름	[주소	경도(x)	위도(y)]
+ * </pre>
+ */
+@Slf4j
+public class DictionaryLocationResolver implements LocationResolver {
+
+    private final Map<String, Document> dictionary;
+
+    public DictionaryLocationResolver(Map<String, Document> dictionary) {
+        Map<String, Document> normalized = new HashMap<>();
+        dictionary.forEach((keyword, place) ->
+            normalized.put(LocationResolver.normalizeKeyword(keyword), place));
+        this.dictionary = Collections.unmodifiableMap(normalized);
+    }
+
+    /**
+     * 사전 파일을 읽어 resolver 생성
+     *
+     * @param resource
+     * @return dictionaryLocationResolver
+     */
+    public static DictionaryLocationResolver load(Resource resource) {
+        Map<String, Document> dictionary = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split("\t");
+                if (columns.length < 2) {
+                    log.warn("장소 사전 형식 오류 line : {}", line);
+                    continue;
+                }
+                dictionary.put(columns[0], toDocument(columns));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("장소 사전을 읽을 수 없습니다. : " + resource, e);
+        }
+
+        log.info("[DictionaryLocationResolver] loaded places: {}", dictionary.size());
+        return new DictionaryLocationResolver(dictionary);
+    }
+
+    @Override
+    public Optional<Document> resolve(String keyword) {
+        return Optional.ofNullable(dictionary.get(LocationResolver.normalizeKeyword(keyword)));
+    }
+
+    public int size() {
+        return dictionary.size();
+    }
+
+    private static Document toDocument(String[] columns) {
+        String addressName = columns.length > 2 ? columns[2] : null;
+        double longitude = columns.length > 3 ? Double.parseDouble(columns[3]) : 0;
+        double latitude = columns.length > 4 ? Double.parseDouble(columns[4]) : 0;
+        return new Document(addressName, longitude, latitude, null, columns[1], null, 0);
+    }
+}
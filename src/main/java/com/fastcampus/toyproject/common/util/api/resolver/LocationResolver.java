@@ -0,0 +1,55 @@
+package com.fastcampus.toyproject.common.util.api.resolver;
+
+import static com.fastcampus.toyproject.common.exception.DefaultExceptionCode.LOCATION_SEARCH_UNAVAILABLE;
+
+import com.fastcampus.toyproject.common.exception.DefaultException;
+import com.fastcampus.toyproject.common.util.api.dto.Document;
+import java.util.Optional;
+
+/**
+ * 장소 keyword 를 위치 정보로 변환하는 전략.
+ * kakao 호출, 캐시, 사전 파일, no-op 구현을 조합(decorator / chain)하여 환경별로 구성한다.
+ */
+public interface LocationResolver {
+
+    /**
+     * keyword 로 장소 검색. 결과가 없으면 empty
+     *
+     * @param keyword
+     * @return place
+     * @throws DefaultException 일시적으로 검색할 수 없는 경우 (LOCATION_SEARCH_UNAVAILABLE)
+     */
+    Optional<Document> resolve(String keyword);
+
+    /**
+     * keyword 의 장소 이름 반환. 결과가 없거나 일시적으로 검색할 수 없으면 keyword 그대로 반환
+     *
+     * @param keyword
+     * @return placeName
+     */
+    default String resolvePlaceName(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        try {
+            return resolve(keyword)
+                .map(Document::getPlaceName)
+                .orElse(keyword);
+        } catch (DefaultException e) {
+            if (e.getErrorCode() != LOCATION_SEARCH_UNAVAILABLE) {
+                throw e;
+            }
+            return keyword;
+        }
+    }
+
+    /**
+     * 앞뒤 공백 제거 및 연속 공백을 하나로 줄인 keyword 반환 (캐시 / 사전 키)
+     *
+     * @param keyword
+     * @return normalizedKeyword
+     */
+    static String normalizeKeyword(String keyword) {
+        return keyword.trim().replaceAll("\\s+", " ");
+    }
+}
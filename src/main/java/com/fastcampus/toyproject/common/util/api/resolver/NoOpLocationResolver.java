@@ -0,0 +1,15 @@
+package com.fastcampus.toyproject.common.util.api.resolver;
+
+import com.fastcampus.toyproject.common.util.api.dto.Document;
+import java.util.Optional;
+
+/**
+ * 아무것도 검색하지 않는 resolver. 장소 이름은 항상 keyword 그대로 (로컬 / 부하 테스트용)
+ */
+public class NoOpLocationResolver implements LocationResolver {
+
+    @Override
+    public Optional<Document> resolve(String keyword) {
+        return Optional.empty();
+    }
+}
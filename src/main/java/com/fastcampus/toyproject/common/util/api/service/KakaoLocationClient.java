@@ -0,0 +1,163 @@
+package com.fastcampus.toyproject.common.util.api.service;
+
+import static com.fastcampus.toyproject.common.exception.DefaultExceptionCode.LOCATION_SEARCH_FAILED;
+import static com.fastcampus.toyproject.common.exception.DefaultExceptionCode.LOCATION_SEARCH_UNAVAILABLE;
+
+import com.fastcampus.toyproject.common.exception.DefaultException;
+import com.fastcampus.toyproject.common.util.api.dto.Document;
+import com.fastcampus.toyproject.common.util.api.resilience.AdaptiveRateLimiter;
+import com.fastcampus.toyproject.common.util.api.resilience.Bulkhead;
+import com.fastcampus.toyproject.common.util.api.resilience.CircuitBreaker;
+import com.fastcampus.toyproject.common.util.api.resolver.LocationResolver;
+import com.fasterxml.jackson.core.JsonFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.core5.http.HttpStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+/**
+ * kakao 키워드 장소 검색 client (LocationResolver 의 원격 구현).
+ * 커넥션 풀을 가진 HTTP client 를 애플리케이션 전체에서 공유한다.
+ * kakao 장애 시에는 circuit breaker / bulkhead 가 호출을 바로 거절하고 (LOCATION_SEARCH_UNAVAILABLE),
+ * 호출 속도는 rate limiter 로 quota 안에 맞춘다. quota 초과(429)도 호출자에게는 UNAVAILABLE 로 전달되어
+ * keyword 그대로 사용하거나 (API 요청) 나중에 재시도한다 (백그라운드 작업). 캐싱은 CachingLocationResolver 가 담당한다.
+ */
+@Slf4j
+@Component
+public class KakaoLocationClient implements LocationResolver {
+
+    private static final String DEFAULT_KEYWORD = "종로";
+
+    private final CloseableHttpClient httpClient;
+    private final KakaoResponseParser responseParser;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final AdaptiveRateLimiter rateLimiter;
+    private final UriBuilder uriBuilder = new UriBuilder();
+    private final String authorizationHeader;
+
+    public KakaoLocationClient(
+        CloseableHttpClient kakaoHttpClient,
+        JsonFactory kakaoJsonFactory,
+        CircuitBreaker kakaoCircuitBreaker,
+        Bulkhead kakaoBulkhead,
+        AdaptiveRateLimiter kakaoRateLimiter,
+        @Value("${spring.kakao-api.key:}") String kakaoRestApiKey
+    ) {
+        this.httpClient = kakaoHttpClient;
+        this.responseParser = new KakaoResponseParser(kakaoJsonFactory);
+        this.circuitBreaker = kakaoCircuitBreaker;
+        this.bulkhead = kakaoBulkhead;
+        this.rateLimiter = kakaoRateLimiter;
+        this.authorizationHeader = "KakaoAK " + kakaoRestApiKey;
+    }
+
+    /**
+     * keyword 로 kakao 장소를 검색하여 첫 번째 장소 반환
+     *
+     * @param keyword
+     * @return place
+     */
+    @Override
+    public Optional<Document> resolve(String keyword) {
+        if (keyword.equals("")) {
+            keyword = DEFAULT_KEYWORD;
+            log.info("keyword가 없어서 default(종로)로 검색합니다.");
+        }
+        return protectedSearchPlace(keyword);
+    }
+
+    /**
+     * 현재 kakao 호출이 허용되는 상태인지 (circuit breaker 가 OPEN 이 아닌지) 반환
+     *
+     * @return available
+     */
+    public boolean isAvailable() {
+        return circuitBreaker.getState() != CircuitBreaker.State.OPEN;
+    }
+
+    /**
+     * rate limiter, circuit breaker, bulkhead 를 거쳐 kakao 를 호출. 허용되지 않으면 LOCATION_SEARCH_UNAVAILABLE.
+     * token 을 기다리는 동안 HALF_OPEN 시험 호출 자리를 잡고 있지 않도록 rate limiter 를 먼저 통과한다.
+     * kakao 의 429 는 장애가 아니므로 circuit breaker 실패로 세지 않고, 호출 속도만 줄인 뒤 UNAVAILABLE 로 돌려준다.
+     *
+     * @param keyword
+     * @return place
+     */
+    private Optional<Document> protectedSearchPlace(String keyword) {
+        if (!rateLimiter.tryAcquire()) {
+            log.warn("kakao 호출 속도 제한 초과 keyword : {}", keyword);
+            throw new DefaultException(LOCATION_SEARCH_UNAVAILABLE);
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            rateLimiter.release();
+            throw new DefaultException(LOCATION_SEARCH_UNAVAILABLE);
+        }
+        if (!bulkhead.tryAcquire()) {
+            log.warn("kakao 동시 호출 제한 초과 keyword : {}", keyword);
+            circuitBreaker.releasePermission();
+            rateLimiter.release();
+            throw new DefaultException(LOCATION_SEARCH_UNAVAILABLE);
+        }
+
+        long start = System.nanoTime();
+        try {
+            Optional<Document> result = searchPlace(keyword);
+            long elapsed = System.nanoTime() - start;
+            circuitBreaker.onSuccess(elapsed);
+            rateLimiter.onComplete(elapsed);
+            return result;
+        } catch (KakaoThrottledException e) {
+            circuitBreaker.releasePermission();
+            rateLimiter.onThrottled();
+            throw new DefaultException(LOCATION_SEARCH_UNAVAILABLE);
+        } catch (RuntimeException e) {
+            long elapsed = System.nanoTime() - start;
+            circuitBreaker.onError(elapsed);
+            rateLimiter.onComplete(elapsed);
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private Optional<Document> searchPlace(String keyword) {
+        HttpGet request = new HttpGet(uriBuilder.keywordUriBuilder(keyword));
+        request.setHeader(HttpHeaders.AUTHORIZATION, authorizationHeader);
+
+        try {
+            return httpClient.execute(request, res -> {
+                if (res.getCode() == HttpStatus.SC_TOO_MANY_REQUESTS) {
+                    log.warn("kakao 장소 검색 quota 초과 keyword : {}", keyword);
+                    throw new KakaoThrottledException();
+                }
+                if (res.getCode() != HttpStatus.SC_OK) {
+                    log.warn("kakao 장소 검색 실패 status : {}, keyword : {}", res.getCode(), keyword);
+                    throw new DefaultException(LOCATION_SEARCH_FAILED);
+                }
+                try (InputStream body = res.getEntity().getContent()) {
+                    return responseParser.parseFirstDocument(body);
+                }
+            });
+        } catch (IOException e) {
+            log.warn("kakao 장소 검색 I/O 오류 keyword : {}, message : {}", keyword, e.getMessage());
+            throw new DefaultException(LOCATION_SEARCH_FAILED);
+        }
+    }
+
+    /**
+     * kakao 가 429 로 응답한 경우 (circuit breaker 실패로 세지 않기 위해 다른 오류와 구분)
+     */
+    private static class KakaoThrottledException extends RuntimeException {
+
+        KakaoThrottledException() {
+            super("kakao 장소 검색 quota 초과", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.fastcampus.toyproject.common.util.api.service;
+
+import com.fastcampus.toyproject.common.util.api.dto.Document;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * kakao 키워드 검색 응답에서 첫 번째 장소만 읽는 streaming parser.
+ * 전체 응답(모든 document, meta)을 객체로 만들지 않고,
+ * 첫 번째 document 의 필요한 필드(장소 이름, 주소, 좌표)만 읽은 뒤 바로 멈춘다.
+ */
+public class KakaoResponseParser {
+
+    private static final String DOCUMENTS = "documents";
+    private static final String PLACE_NAME = "place_name";
+    private static final String ADDRESS_NAME = "address_name";
+    private static final String LONGITUDE = "x";
+    private static final String LATITUDE = "y";
+
+    private final JsonFactory jsonFactory;
+
+    public KakaoResponseParser(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * 응답 body 에서 첫 번째 장소 반환. documents 가 비어 있으면 empty
+     *
+     * @param body
+     * @return place
+     * @throws IOException
+     */
+    public Optional<Document> parseFirstDocument(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return Optional.empty();
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+
+                if (DOCUMENTS.equals(field) && value == JsonToken.START_ARRAY) {
+                    if (parser.nextToken() != JsonToken.START_OBJECT) {
+                        return Optional.empty();
+                    }
+                    return Optional.of(readDocument(parser));
+                }
+                parser.skipChildren();
+            }
+            return Optional.empty();
+        }
+    }
+
+    private static Document readDocument(JsonParser parser) throws IOException {
+        String placeName = null;
+        String addressName = null;
+        double longitude = 0;
+        double latitude = 0;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+
+            switch (field) {
+                case PLACE_NAME:
+                    placeName = parser.getValueAsString();
+                    break;
+                case ADDRESS_NAME:
+                    addressName = parser.getValueAsString();
+                    break;
+                case LONGITUDE:
+                    // kakao 는 좌표를 문자열로 준다.
+                    longitude = parser.getValueAsDouble();
+                    break;
+                case LATITUDE:
+                    latitude = parser.getValueAsDouble();
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return new Document(addressName, longitude, latitude, null, placeName, null, 0);
+    }
+}
@@ -7,10 +7,13 @@ public class UriBuilder {
 
 
     private static final String KAKAO_KEYWORD_SEARCH_ADDRESS_URL = "https://dapi.kakao.com/v2/local/search/keyword.json";
+    // 첫 번째 장소만 사용하므로 1건만 요청
+    private static final int KEYWORD_SEARCH_SIZE = 1;
 
     public URI keywordUriBuilder(String keyword) {
         UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromHttpUrl(KAKAO_KEYWORD_SEARCH_ADDRESS_URL);
         uriBuilder.queryParam("query", keyword);
+        uriBuilder.queryParam("size", KEYWORD_SEARCH_SIZE);
 
         URI uri = uriBuilder.build().encode().toUri();
 
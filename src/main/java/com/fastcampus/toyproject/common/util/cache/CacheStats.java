@@ -0,0 +1,25 @@
+package com.fastcampus.toyproject.common.util.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 캐시 적중/미스/제거 횟수 스냅샷
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class CacheStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long expiredCount;
+    private final int size;
+
+    public double getHitRatio() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 0.0 : (double) hitCount / requestCount;
+    }
+}
@@ -0,0 +1,143 @@
+package com.fastcampus.toyproject.common.util.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 최대 크기(LRU)와 TTL 로 제한되는 in-process 캐시.
+ * 적중/미스/제거 횟수를 기록하여 캐시 크기를 조정할 수 있도록 한다.
+ *
+ * @param <K> 캐시 키
+ * @param <V> 캐시 값
+ */
+public class ExpiringLruCache<K, V> {
+
+    private final int maxSize;
+    private final Duration defaultTtl;
+    private final LongSupplier ticker;
+    private final LinkedHashMap<K, Entry<V>> map;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private final AtomicLong expiredCount = new AtomicLong();
+
+    public ExpiringLruCache(int maxSize, Duration defaultTtl) {
+        this(maxSize, defaultTtl, System::nanoTime);
+    }
+
+    public ExpiringLruCache(int maxSize, Duration defaultTtl, LongSupplier ticker) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.maxSize = maxSize;
+        this.defaultTtl = defaultTtl;
+        this.ticker = ticker;
+        // accessOrder = true : get 할 때마다 가장 최근 사용 위치로 이동 (LRU)
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > ExpiringLruCache.this.maxSize) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시에서 값을 조회하는 메소드. 없거나 만료되었으면 null 반환
+     *
+     * @param key
+     * @return value
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = map.get(key);
+        if (entry == null) {
+            missCount.incrementAndGet();
+            return null;
+        }
+        if (entry.isExpired(ticker.getAsLong())) {
+            map.remove(key);
+            expiredCount.incrementAndGet();
+            missCount.incrementAndGet();
+            return null;
+        }
+        hitCount.incrementAndGet();
+        return entry.value;
+    }
+
+    /**
+     * 적중/미스 횟수를 기록하지 않고 값을 조회하는 메소드 (ex. 캐시된 값의 버전만 확인). 없거나 만료되었으면 null 반환
+     *
+     * @param key
+     * @return value
+     */
+    public synchronized V peek(K key) {
+        Entry<V> entry = map.get(key);
+        if (entry == null || entry.isExpired(ticker.getAsLong())) {
+            return null;
+        }
+        return entry.value;
+    }
+
+    public void put(K key, V value) {
+        put(key, value, defaultTtl);
+    }
+
+    /**
+     * 항목별 TTL 을 지정하여 저장하는 메소드 (ex. 검색 결과 없음은 짧게 캐싱)
+     *
+     * @param key
+     * @param value
+     * @param ttl
+     */
+    public synchronized void put(K key, V value, Duration ttl) {
+        map.put(key, new Entry<>(value, ticker.getAsLong() + ttl.toNanos()));
+    }
+
+    public synchronized void invalidate(K key) {
+        map.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        map.clear();
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(
+            hitCount.get(),
+            missCount.get(),
+            evictionCount.get(),
+            expiredCount.get(),
+            size()
+        );
+    }
+
+    private static class Entry<V> {
+
+        private final V value;
+        private final long expireAt;
+
+        private Entry(V value, long expireAt) {
+            this.value = value;
+            this.expireAt = expireAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expireAt >= 0;
+        }
+    }
+}
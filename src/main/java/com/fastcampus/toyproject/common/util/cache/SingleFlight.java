@@ -0,0 +1,87 @@
+package com.fastcampus.toyproject.common.util.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 요청을 하나의 실제 호출로 합치는 클래스.
+ * 먼저 들어온 스레드만 loader 를 실행하고, 나머지는 그 결과(또는 예외)를 공유한다.
+ *
+ * @param <K> 요청 키
+ * @param <V> 결과 값
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong executionCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    /**
+     * 진행 중인 같은 키의 호출이 있으면 그 결과를 기다리고, 없으면 loader 를 직접 실행
+     *
+     * @param key
+     * @param loader
+     * @return value
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, call);
+
+        if (running != null) {
+            coalescedCount.incrementAndGet();
+            return await(running);
+        }
+
+        executionCount.incrementAndGet();
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    /**
+     * 진행 중인 호출을 더 이상 공유하지 않도록 분리. 이미 합류한 요청은 그 결과를 그대로 받고,
+     * 이후 같은 키의 요청은 loader 를 새로 실행한다.
+     *
+     * @param key
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    public long getExecutionCount() {
+        return executionCount.get();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    private V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.fastcampus.toyproject.config.async;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 여정 장소 변환(fan-out)용 executor.
+ * PLATFORM 모드는 크기가 제한된 thread pool 과 queue 를 사용하고, queue 가 가득 차면 호출한 스레드가 직접 실행하여
+ * 작업 유입 속도를 늦춘다 (backpressure). API 요청처럼 deadline 이 있는 호출은 nonBlocking() 으로 제출하여
+ * 호출한 스레드에서 실행되지 않고 바로 거절되게 한다.
+ * VIRTUAL 모드는 조회 하나마다 virtual thread 를 사용한다 (JDK 21 이상). 실행 중인 JDK 가 지원하지 않으면
+ * PLATFORM 모드로 대체된다. 두 모드 모두 애플리케이션 종료 시 남은 작업을 기다린 뒤 종료한다.
+ */
+@Slf4j
+public class GeocodingExecutor implements Executor, DisposableBean {
+
+    private static final String THREAD_NAME_PREFIX = "geocoding-";
+
+    public enum Mode {
+        PLATFORM, VIRTUAL
+    }
+
+    private final Mode mode;
+    private final ThreadPoolTaskExecutor taskExecutor;
+    private final ExecutorService virtualThreadExecutor;
+    private final int awaitTerminationSeconds;
+
+    private final AtomicInteger virtualActiveCount = new AtomicInteger();
+    private final AtomicLong virtualCompletedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final Executor nonBlockingExecutor = this::executeOrReject;
+
+    public GeocodingExecutor(
+        int corePoolSize, int maxPoolSize, int queueCapacity,
+        int keepAliveSeconds, int awaitTerminationSeconds
+    ) {
+        this.mode = Mode.PLATFORM;
+        this.virtualThreadExecutor = null;
+        this.awaitTerminationSeconds = awaitTerminationSeconds;
+        this.taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setThreadNamePrefix(THREAD_NAME_PREFIX);
+        taskExecutor.setCorePoolSize(corePoolSize);
+        taskExecutor.setMaxPoolSize(maxPoolSize);
+        taskExecutor.setQueueCapacity(queueCapacity);
+        taskExecutor.setKeepAliveSeconds(keepAliveSeconds);
+        // 거절 시 처리 방식은 execute / nonBlocking 에서 결정
+        taskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        taskExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        taskExecutor.setAwaitTerminationSeconds(awaitTerminationSeconds);
+        taskExecutor.initialize();
+    }
+
+    private GeocodingExecutor(ExecutorService virtualThreadExecutor, int awaitTerminationSeconds) {
+        this.mode = Mode.VIRTUAL;
+        this.taskExecutor = null;
+        this.virtualThreadExecutor = virtualThreadExecutor;
+        this.awaitTerminationSeconds = awaitTerminationSeconds;
+    }
+
+    /**
+     * 요청한 모드로 executor 생성. VIRTUAL 을 지원하지 않는 JDK 면 PLATFORM pool 로 대체
+     *
+     * @param mode
+     * @param corePoolSize
+     * @param maxPoolSize
+     * @param queueCapacity
+     * @param keepAliveSeconds
+     * @param awaitTerminationSeconds
+     * @return executor
+     */
+    public static GeocodingExecutor create(
+        Mode mode, int corePoolSize, int maxPoolSize, int queueCapacity,
+        int keepAliveSeconds, int awaitTerminationSeconds
+    ) {
+        if (mode == Mode.VIRTUAL) {
+            ExecutorService virtualThreadExecutor = newVirtualThreadExecutor();
+            if (virtualThreadExecutor != null) {
+                log.info("장소 변환 executor : virtual thread");
+                return new GeocodingExecutor(virtualThreadExecutor, awaitTerminationSeconds);
+            }
+            log.info("virtual thread 를 지원하지 않는 JDK({}) 라서 platform thread pool 을 사용합니다.",
+                System.getProperty("java.version"));
+        }
+        log.info("장소 변환 executor : platform thread pool (core {}, max {}, queue {})",
+            corePoolSize, maxPoolSize, queueCapacity);
+        return new GeocodingExecutor(
+            corePoolSize, maxPoolSize, queueCapacity, keepAliveSeconds, awaitTerminationSeconds
+        );
+    }
+
+    /**
+     * JDK 21 의 Thread.ofVirtual().name(prefix, 0).factory() 로 thread-per-task executor 생성.
+     * 컴파일 대상이 JDK 11 이므로 reflection 으로 호출하고, 지원하지 않으면 null 반환
+     *
+     * @return executor
+     */
+    static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class)
+                .invoke(builder, THREAD_NAME_PREFIX, 0L);
+            ThreadFactory threadFactory = (ThreadFactory) builderType.getMethod("factory")
+                .invoke(builder);
+            Method newThreadPerTaskExecutor =
+                Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) newThreadPerTaskExecutor.invoke(null, threadFactory);
+        } catch (NoSuchMethodException | ClassNotFoundException e) {
+            return null;
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            log.warn("virtual thread executor 생성 실패 : {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 작업 실행. PLATFORM pool 이 가득 차면 호출한 스레드가 직접 실행한다 (백그라운드 작업용)
+     *
+     * @param command
+     */
+    @Override
+    public void execute(Runnable command) {
+        try {
+            executeOrReject(command);
+        } catch (RejectedExecutionException e) {
+            if (mode == Mode.VIRTUAL || taskExecutor.getThreadPoolExecutor().isShutdown()) {
+                throw e;
+            }
+            command.run();
+        }
+    }
+
+    /**
+     * pool 이 가득 차면 호출한 스레드에서 실행하지 않고 RejectedExecutionException 을 던지는 executor 반환.
+     * API 요청 처리 스레드가 조회를 직접 실행하느라 요청 deadline 을 넘기지 않도록 할 때 사용한다.
+     *
+     * @return executor
+     */
+    public Executor nonBlocking() {
+        return nonBlockingExecutor;
+    }
+
+    private void executeOrReject(Runnable command) {
+        if (mode == Mode.PLATFORM) {
+            try {
+                taskExecutor.execute(command);
+            } catch (RejectedExecutionException e) {
+                rejectedCount.incrementAndGet();
+                throw e;
+            }
+            return;
+        }
+        virtualThreadExecutor.execute(() -> {
+            virtualActiveCount.incrementAndGet();
+            try {
+                command.run();
+            } finally {
+                virtualActiveCount.decrementAndGet();
+                virtualCompletedCount.incrementAndGet();
+            }
+        });
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public int getActiveCount() {
+        return mode == Mode.PLATFORM ? taskExecutor.getActiveCount() : virtualActiveCount.get();
+    }
+
+    public int getPoolSize() {
+        return mode == Mode.PLATFORM ? taskExecutor.getPoolSize() : virtualActiveCount.get();
+    }
+
+    public int getQueueSize() {
+        return mode == Mode.PLATFORM ? taskExecutor.getThreadPoolExecutor().getQueue().size() : 0;
+    }
+
+    /**
+     * pool 이 가득 차서 거절된 횟수 (호출한 스레드가 직접 실행한 경우 포함)
+     *
+     * @return rejectedCount
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public long getCompletedTaskCount() {
+        return mode == Mode.PLATFORM
+            ? taskExecutor.getThreadPoolExecutor().getCompletedTaskCount()
+            : virtualCompletedCount.get();
+    }
+
+    @Override
+    public void destroy() {
+        if (mode == Mode.PLATFORM) {
+            taskExecutor.shutdown();
+            return;
+        }
+        virtualThreadExecutor.shutdown();
+        try {
+            if (!virtualThreadExecutor.awaitTermination(awaitTerminationSeconds, TimeUnit.SECONDS)) {
+                log.warn("장소 변환 작업이 {}초 안에 끝나지 않았습니다.", awaitTerminationSeconds);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
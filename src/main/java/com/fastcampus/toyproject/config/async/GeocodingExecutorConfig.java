@@ -0,0 +1,55 @@
+package com.fastcampus.toyproject.config.async;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class GeocodingExecutorConfig {
+
+    /**
+     * mode 가 virtual 이면 JDK 21 이상에서 virtual thread 를 사용하고, 아니면 제한된 platform thread pool 을 사용
+     */
+    @Bean
+    public GeocodingExecutor geocodingExecutor(
+        @Value("${itinerary.geocoding.executor.mode:platform}") String mode,
+        @Value("${itinerary.geocoding.executor.core-size:10}") int corePoolSize,
+        @Value("${itinerary.geocoding.executor.max-size:20}") int maxPoolSize,
+        @Value("${itinerary.geocoding.executor.queue-capacity:200}") int queueCapacity,
+        @Value("${itinerary.geocoding.executor.keep-alive-sec:60}") int keepAliveSeconds,
+        @Value("${itinerary.geocoding.executor.await-termination-sec:30}") int awaitTerminationSeconds
+    ) {
+        return GeocodingExecutor.create(
+            GeocodingExecutor.Mode.valueOf(mode.trim().toUpperCase()),
+            corePoolSize, maxPoolSize, queueCapacity, keepAliveSeconds, awaitTerminationSeconds
+        );
+    }
+
+    /**
+     * 장소 변환 executor 상태를 metric 으로 노출 (/actuator/metrics)
+     */
+    @Bean
+    public MeterBinder geocodingExecutorMetrics(GeocodingExecutor geocodingExecutor) {
+        return registry -> {
+            Gauge.builder("itinerary.geocoding.executor.active", geocodingExecutor,
+                    GeocodingExecutor::getActiveCount)
+                .register(registry);
+            Gauge.builder("itinerary.geocoding.executor.pool.size", geocodingExecutor,
+                    GeocodingExecutor::getPoolSize)
+                .register(registry);
+            Gauge.builder("itinerary.geocoding.executor.queued", geocodingExecutor,
+                    GeocodingExecutor::getQueueSize)
+                .register(registry);
+            FunctionCounter.builder("itinerary.geocoding.executor.completed", geocodingExecutor,
+                    GeocodingExecutor::getCompletedTaskCount)
+                .register(registry);
+            FunctionCounter.builder("itinerary.geocoding.executor.rejected", geocodingExecutor,
+                    GeocodingExecutor::getRejectedCount)
+                .description("pool 이 가득 차서 거절된 조회 수")
+                .register(registry);
+        };
+    }
+}
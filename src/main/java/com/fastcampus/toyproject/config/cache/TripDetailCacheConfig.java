@@ -0,0 +1,75 @@
+package com.fastcampus.toyproject.config.cache;
+
+import com.fastcampus.toyproject.domain.trip.service.TripDetailCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class TripDetailCacheConfig {
+
+    @Bean
+    public TripDetailCache tripDetailCache(
+        @Value("${trip.detail-cache.max-size:1000}") int maxSize,
+        @Value("${trip.detail-cache.ttl-min:10}") long ttlMin,
+        @Value("${trip.detail-cache.refresh-after-sec:5}") long refreshAfterSec,
+        ThreadPoolTaskExecutor tripDetailRefreshExecutor
+    ) {
+        return new TripDetailCache(
+            maxSize,
+            Duration.ofMinutes(ttlMin),
+            Duration.ofSeconds(refreshAfterSec),
+            tripDetailRefreshExecutor
+        );
+    }
+
+    /**
+     * trip 상세 캐시 백그라운드 갱신용 executor. 큐가 가득 차면 갱신을 건너뛰고 기존 값을 사용
+     */
+    @Bean
+    public ThreadPoolTaskExecutor tripDetailRefreshExecutor(
+        @Value("${trip.detail-cache.refresh-threads:2}") int threads,
+        @Value("${trip.detail-cache.refresh-queue-capacity:100}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("trip-detail-refresh-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    /**
+     * trip 상세 캐시 상태를 metric 으로 노출 (/actuator/metrics)
+     */
+    @Bean
+    public MeterBinder tripDetailCacheMetrics(TripDetailCache tripDetailCache) {
+        return registry -> {
+            Gauge.builder("trip.detail.cache.hit.ratio", tripDetailCache,
+                    cache -> cache.stats().getHitRatio())
+                .register(registry);
+            Gauge.builder("trip.detail.cache.size", tripDetailCache,
+                    cache -> cache.stats().getSize())
+                .register(registry);
+            FunctionCounter.builder("trip.detail.cache.invalidations", tripDetailCache,
+                    TripDetailCache::getInvalidationCount)
+                .register(registry);
+            FunctionCounter.builder("trip.detail.cache.loads", tripDetailCache,
+                    TripDetailCache::getLoadCount)
+                .register(registry);
+            FunctionCounter.builder("trip.detail.cache.coalesced", tripDetailCache,
+                    TripDetailCache::getCoalescedCount)
+                .register(registry);
+            FunctionCounter.builder("trip.detail.cache.refreshes", tripDetailCache,
+                    TripDetailCache::getRefreshCount)
+                .register(registry);
+        };
+    }
+}
@@ -0,0 +1,178 @@
+package com.fastcampus.toyproject.config.location;
+
+import com.fastcampus.toyproject.common.util.api.resilience.AdaptiveRateLimiter;
+import com.fastcampus.toyproject.common.util.api.resilience.Bulkhead;
+import com.fastcampus.toyproject.common.util.api.resilience.CircuitBreaker;
+import com.fastcampus.toyproject.common.util.api.resolver.CachingLocationResolver;
+import com.fasterxml.jackson.core.JsonFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * kakao 장소 검색 API 호출용 HTTP client 설정.
+ * 커넥션 풀(keep-alive)을 공유하여 장소마다 TCP + TLS handshake 를 하지 않도록 한다.
+ */
+@Configuration
+public class LocationClientConfig {
+
+    @Bean
+    public CloseableHttpClient kakaoHttpClient(
+        @Value("${spring.kakao-api.connect-timeout-ms:1000}") long connectTimeoutMs,
+        @Value("${spring.kakao-api.read-timeout-ms:2000}") long readTimeoutMs,
+        @Value("${spring.kakao-api.connection-request-timeout-ms:500}") long connectionRequestTimeoutMs,
+        @Value("${spring.kakao-api.max-connections:50}") int maxConnections,
+        @Value("${spring.kakao-api.max-connections-per-route:20}") int maxConnectionsPerRoute,
+        @Value("${spring.kakao-api.idle-timeout-sec:30}") long idleTimeoutSec
+    ) {
+        PoolingHttpClientConnectionManager connectionManager =
+            PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                    .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                    .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                    .setValidateAfterInactivity(TimeValue.ofSeconds(idleTimeoutSec))
+                    .build())
+                .build();
+
+        RequestConfig requestConfig = RequestConfig.custom()
+            .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMs))
+            .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+            .build();
+
+        return HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(requestConfig)
+            .evictIdleConnections(TimeValue.ofSeconds(idleTimeoutSec))
+            .build();
+    }
+
+    /**
+     * kakao 응답 streaming parsing 용 JsonFactory (객체 binding 을 하지 않으므로 ObjectMapper 불필요)
+     */
+    @Bean
+    public JsonFactory kakaoJsonFactory() {
+        return new JsonFactory();
+    }
+
+    /**
+     * kakao 호출의 실패/느린 호출 비율이 기준을 넘으면 잠시 호출을 차단하는 circuit breaker
+     */
+    @Bean
+    public CircuitBreaker kakaoCircuitBreaker(
+        @Value("${spring.kakao-api.circuit-breaker.failure-rate-threshold:50}") int failureRateThreshold,
+        @Value("${spring.kakao-api.circuit-breaker.slow-call-rate-threshold:50}") int slowCallRateThreshold,
+        @Value("${spring.kakao-api.circuit-breaker.slow-call-duration-ms:1500}") long slowCallDurationMs,
+        @Value("${spring.kakao-api.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+        @Value("${spring.kakao-api.circuit-breaker.minimum-number-of-calls:10}") int minimumNumberOfCalls,
+        @Value("${spring.kakao-api.circuit-breaker.wait-duration-in-open-ms:10000}") long waitDurationInOpenMs,
+        @Value("${spring.kakao-api.circuit-breaker.permitted-calls-in-half-open:3}") int permittedCallsInHalfOpen
+    ) {
+        return CircuitBreaker.builder()
+            .name("kakao")
+            .failureRateThreshold(failureRateThreshold)
+            .slowCallRateThreshold(slowCallRateThreshold)
+            .slowCallDuration(Duration.ofMillis(slowCallDurationMs))
+            .slidingWindowSize(slidingWindowSize)
+            .minimumNumberOfCalls(minimumNumberOfCalls)
+            .waitDurationInOpen(Duration.ofMillis(waitDurationInOpenMs))
+            .permittedCallsInHalfOpen(permittedCallsInHalfOpen)
+            .build();
+    }
+
+    /**
+     * kakao 동시 호출 수 제한
+     */
+    @Bean
+    public Bulkhead kakaoBulkhead(
+        @Value("${spring.kakao-api.bulkhead.max-concurrent-calls:20}") int maxConcurrentCalls,
+        @Value("${spring.kakao-api.bulkhead.max-wait-ms:100}") long maxWaitMs
+    ) {
+        return new Bulkhead(maxConcurrentCalls, Duration.ofMillis(maxWaitMs));
+    }
+
+    /**
+     * kakao quota (초당 호출 수) 에 맞춘 호출 속도 / 동시 호출 수 제한
+     */
+    @Bean
+    public AdaptiveRateLimiter kakaoRateLimiter(
+        @Value("${spring.kakao-api.rate-limit.permits-per-second:10}") double permitsPerSecond,
+        @Value("${spring.kakao-api.rate-limit.min-permits-per-second:1}") double minPermitsPerSecond,
+        @Value("${spring.kakao-api.rate-limit.burst:10}") int burst,
+        @Value("${spring.kakao-api.rate-limit.min-concurrency:2}") int minConcurrency,
+        @Value("${spring.kakao-api.rate-limit.max-concurrency:20}") int maxConcurrency,
+        @Value("${spring.kakao-api.rate-limit.target-latency-ms:500}") long targetLatencyMs,
+        @Value("${spring.kakao-api.rate-limit.max-wait-ms:1000}") long maxWaitMs
+    ) {
+        return AdaptiveRateLimiter.builder()
+            .permitsPerSecond(permitsPerSecond)
+            .minPermitsPerSecond(minPermitsPerSecond)
+            .burst(burst)
+            .minConcurrency(minConcurrency)
+            .maxConcurrency(maxConcurrency)
+            .targetLatency(Duration.ofMillis(targetLatencyMs))
+            .maxWait(Duration.ofMillis(maxWaitMs))
+            .build();
+    }
+
+    /**
+     * kakao 호출 제한 상태와 장소 캐시를 metric 으로 노출 (/actuator/metrics)
+     */
+    @Bean
+    public MeterBinder kakaoLocationMetrics(
+        AdaptiveRateLimiter kakaoRateLimiter,
+        CircuitBreaker kakaoCircuitBreaker,
+        Bulkhead kakaoBulkhead,
+        CachingLocationResolver cachingKakaoLocationResolver
+    ) {
+        return registry -> {
+            Gauge.builder("kakao.ratelimit.permits.per.second", kakaoRateLimiter,
+                    AdaptiveRateLimiter::getPermitsPerSecond)
+                .description("현재 허용된 kakao 초당 호출 수")
+                .register(registry);
+            Gauge.builder("kakao.ratelimit.queue.depth", kakaoRateLimiter,
+                    AdaptiveRateLimiter::getQueueDepth)
+                .description("token 을 기다리는 호출 수")
+                .register(registry);
+            Gauge.builder("kakao.ratelimit.concurrency.limit", kakaoRateLimiter,
+                    AdaptiveRateLimiter::getConcurrencyLimit)
+                .register(registry);
+            Gauge.builder("kakao.ratelimit.in.flight", kakaoRateLimiter,
+                    AdaptiveRateLimiter::getInFlight)
+                .register(registry);
+            FunctionCounter.builder("kakao.ratelimit.rejected", kakaoRateLimiter,
+                    AdaptiveRateLimiter::getRejectedCount)
+                .register(registry);
+            FunctionCounter.builder("kakao.ratelimit.throttled", kakaoRateLimiter,
+                    AdaptiveRateLimiter::getThrottledCount)
+                .description("429 응답 수")
+                .register(registry);
+            Gauge.builder("kakao.circuitbreaker.open", kakaoCircuitBreaker,
+                    cb -> cb.getState() == CircuitBreaker.State.OPEN ? 1 : 0)
+                .register(registry);
+            Gauge.builder("kakao.circuitbreaker.half.open", kakaoCircuitBreaker,
+                    cb -> cb.getState() == CircuitBreaker.State.HALF_OPEN ? 1 : 0)
+                .description("시험 호출로 복구 여부를 확인하는 중")
+                .register(registry);
+            FunctionCounter.builder("kakao.bulkhead.rejected", kakaoBulkhead,
+                    Bulkhead::getRejectedCount)
+                .register(registry);
+            Gauge.builder("kakao.place.cache.hit.ratio", cachingKakaoLocationResolver,
+                    resolver -> resolver.getPlaceCacheStats().getHitRatio())
+                .register(registry);
+        };
+    }
+}
@@ -0,0 +1,95 @@
+package com.fastcampus.toyproject.config.location;
+
+import com.fastcampus.toyproject.common.util.api.resolver.CachingLocationResolver;
+import com.fastcampus.toyproject.common.util.api.resolver.ChainedLocationResolver;
+import com.fastcampus.toyproject.common.util.api.resolver.DictionaryLocationResolver;
+import com.fastcampus.toyproject.common.util.api.resolver.LocationResolver;
+import com.fastcampus.toyproject.common.util.api.resolver.NoOpLocationResolver;
+import com.fastcampus.toyproject.common.util.api.service.KakaoLocationClient;
+import com.fastcampus.toyproject.domain.place.service.PersistentLocationResolver;
+import com.fastcampus.toyproject.domain.place.service.PlaceDictionary;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ResourceLoader;
+
+/**
+ * 장소 변환 resolver 구성.
+ * location.resolver.chain 에 적힌 순서대로 resolver 를 시도한다. (dictionary, kakao, noop)
+ * kakao 는 Place 테이블 사전 -> 캐시 -> kakao 호출 순서로 조회한다.
+ * 예) 운영 : dictionary, kakao / 로컬·부하 테스트 (네트워크 없이) : dictionary, noop
+ */
+@Slf4j
+@Configuration
+public class LocationResolverConfig {
+
+    /**
+     * kakao 검색 결과 캐시 (chain 의 kakao 는 항상 이 캐시를 거친다)
+     */
+    @Bean
+    public CachingLocationResolver cachingKakaoLocationResolver(
+        KakaoLocationClient kakaoLocationClient,
+        @Value("${location.resolver.cache.max-size:10000}") int maxSize,
+        @Value("${location.resolver.cache.ttl-min:1440}") long ttlMin,
+        @Value("${location.resolver.cache.negative-ttl-min:10}") long negativeTtlMin
+    ) {
+        return new CachingLocationResolver(kakaoLocationClient, maxSize,
+            Duration.ofMinutes(ttlMin), Duration.ofMinutes(negativeTtlMin));
+    }
+
+    /**
+     * 파일로 정의한 장소 사전 (location.resolver.dictionary-path 가 있을 때만 생성)
+     */
+    @Bean
+    @ConditionalOnProperty("location.resolver.dictionary-path")
+    public DictionaryLocationResolver dictionaryLocationResolver(
+        ResourceLoader resourceLoader,
+        @Value("${location.resolver.dictionary-path}") String dictionaryPath
+    ) {
+        return DictionaryLocationResolver.load(resourceLoader.getResource(dictionaryPath));
+    }
+
+    @Bean
+    @Primary
+    public LocationResolver locationResolver(
+        @Value("${location.resolver.chain:kakao}") String[] chain,
+        @Value("${location.resolver.place-table.enabled:true}") boolean placeTableEnabled,
+        ObjectProvider<DictionaryLocationResolver> dictionaryLocationResolver,
+        CachingLocationResolver cachingKakaoLocationResolver,
+        PlaceDictionary placeDictionary
+    ) {
+        List<LocationResolver> resolvers = new ArrayList<>();
+        for (String name : chain) {
+            switch (name.trim()) {
+                case "dictionary":
+                    DictionaryLocationResolver dictionary = dictionaryLocationResolver.getIfAvailable();
+                    if (dictionary == null) {
+                        log.warn("location.resolver.dictionary-path 가 없어 dictionary 를 제외합니다.");
+                        continue;
+                    }
+                    resolvers.add(dictionary);
+                    break;
+                case "kakao":
+                    resolvers.add(placeTableEnabled
+                        ? new PersistentLocationResolver(cachingKakaoLocationResolver, placeDictionary)
+                        : cachingKakaoLocationResolver);
+                    break;
+                case "noop":
+                    resolvers.add(new NoOpLocationResolver());
+                    break;
+                default:
+                    throw new IllegalArgumentException("알 수 없는 location resolver : " + name);
+            }
+        }
+
+        log.info("[LocationResolver] chain: {}", String.join(" -> ", chain));
+        return resolvers.size() == 1 ? resolvers.get(0) : new ChainedLocationResolver(resolvers);
+    }
+}
@@ -2,6 +2,7 @@ package com.fastcampus.toyproject.config.security.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.CorsFilter;
@@ -17,6 +18,8 @@ public class CorsConfig {
         config.addAllowedOrigin("*");
         config.addAllowedHeader("*");
         config.addAllowedMethod("*");
+        // 조회 응답의 ETag 를 client 가 읽어 If-None-Match 로 보낼 수 있도록 노출
+        config.addExposedHeader(HttpHeaders.ETAG);
 
         source.registerCorsConfiguration("/api/**", config);
         return new CorsFilter(source);
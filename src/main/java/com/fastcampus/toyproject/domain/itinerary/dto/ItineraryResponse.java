@@ -18,6 +18,8 @@ public class ItineraryResponse {
     private String itineraryName;
     private Integer itineraryOrder;
     private ItineraryType itineraryType;
+    // 요청 deadline 안에 위치 정보를 변환하지 못해 장소 이름을 그대로 저장한 경우 true
+    private boolean placeInfoDegraded;
 
     public static ItineraryResponse fromEntity(Itinerary itinerary) {
         return ItineraryResponse.builder()
@@ -28,4 +30,8 @@ public class ItineraryResponse {
             .build();
     }
 
+    public void markPlaceInfoDegraded() {
+        this.placeInfoDegraded = true;
+    }
+
 }
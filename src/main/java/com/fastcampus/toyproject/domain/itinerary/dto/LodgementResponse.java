@@ -1,7 +1,6 @@
 package com.fastcampus.toyproject.domain.itinerary.dto;
 
 import com.fastcampus.toyproject.common.util.DateUtil;
-import com.fastcampus.toyproject.common.util.LocationUtil;
 import com.fastcampus.toyproject.domain.itinerary.entity.Lodgement;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
@@ -3,11 +3,16 @@ package com.fastcampus.toyproject.domain.itinerary.entity;
 import static com.fastcampus.toyproject.domain.itinerary.exception.ItineraryExceptionCode.ILLEGAL_ITINERARY_TYPE;
 
 import com.fastcampus.toyproject.common.BaseTimeEntity;
+import com.fastcampus.toyproject.common.util.api.resolver.LocationResolver;
 import com.fastcampus.toyproject.domain.itinerary.dto.ItineraryUpdateRequest;
 import com.fastcampus.toyproject.domain.itinerary.exception.ItineraryException;
 import com.fastcampus.toyproject.domain.itinerary.type.ItineraryType;
 import com.fastcampus.toyproject.domain.trip.entity.Trip;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
 import javax.persistence.Column;
 import javax.persistence.DiscriminatorColumn;
 import javax.persistence.Embedded;
@@ -19,10 +24,12 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.Inheritance;
 import javax.persistence.InheritanceType;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -30,12 +37,19 @@ import lombok.experimental.SuperBuilder;
 import org.hibernate.annotations.Comment;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+/**
+ * 여정 (이동 / 숙박 / 체류).
+ * 여정은 항상 여행 단위로 한꺼번에 읽으므로 타입별 컬럼을 한 테이블에 두는 SINGLE_TABLE 전략을 사용한다.
+ * (JOINED 에서 옮길 때는 배포 전에 db/manual/itinerary_single_table.sql 을 수동으로 실행한다)
+ * 타입별 컬럼은 다른 타입의 행에서 null 이므로 NOT NULL 제약 대신 요청 검증으로 보장한다.
+ */
 @Entity
+@Table(indexes = @Index(name = "idx_itinerary_trip_deleted", columnList = "tripId, deletedAt"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
-@Inheritance(strategy = InheritanceType.JOINED)
+@Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn
 @SuperBuilder
 public class Itinerary {
@@ -63,6 +77,9 @@ public class Itinerary {
     @Comment("여정 순서")
     private Integer itineraryOrder;
 
+    @Comment("위치 정보 변환 대기 여부")
+    private Boolean placeInfoPending;
+
     @Embedded
     private BaseTimeEntity baseTimeEntity;
 
@@ -74,6 +91,17 @@ public class Itinerary {
         return baseTimeEntity.getDeletedAt() != null;
     }
 
+    public boolean isPlaceInfoPending() {
+        return Boolean.TRUE.equals(placeInfoPending);
+    }
+
+    /**
+     * 위치 정보를 비동기로 채우도록 표시 (그 전까지 위치 정보는 장소 이름 그대로)
+     */
+    public void markPlaceInfoPending() {
+        this.placeInfoPending = true;
+    }
+
     public void updateItineraryName(String itineraryName) {
         this.itineraryName = itineraryName;
     }
@@ -82,15 +110,62 @@ public class Itinerary {
         this.itineraryOrder = newOrder;
     }
 
-    public void update(ItineraryUpdateRequest req) {
+    public void update(ItineraryUpdateRequest req, LocationResolver locationResolver) {
+        if (this instanceof Movement) {
+            ((Movement) this).updateMovement(req, locationResolver);
+        } else if (this instanceof Lodgement) {
+            ((Lodgement) this).updateLodgement(req, locationResolver);
+        } else if (this instanceof Stay) {
+            ((Stay) this).updateStay(req, locationResolver);
+        } else {
+            throw new ItineraryException(ILLEGAL_ITINERARY_TYPE);
+        }
+    }
+
+    /**
+     * 위치 정보 변환이 필요한 장소 keyword 리스트 반환
+     *
+     * @return placeKeywords
+     */
+    public List<String> getPlaceKeywords() {
+        if (this instanceof Movement) {
+            Movement movement = (Movement) this;
+            return Arrays.asList(movement.getDeparturePlace(), movement.getArrivalPlace());
+        }
+        return Collections.singletonList(itineraryName);
+    }
+
+    /**
+     * 수정 요청에서 기존과 달라져 위치 정보를 다시 변환해야 하는 장소 keyword 리스트 반환
+     *
+     * @param req
+     * @return changedPlaceKeywords
+     */
+    public List<String> getChangedPlaceKeywords(ItineraryUpdateRequest req) {
+        if (this instanceof Movement) {
+            return ((Movement) this).getChangedMovementPlaceKeywords(req);
+        }
+        if (Objects.equals(itineraryName, req.getName())) {
+            return Collections.emptyList();
+        }
+        return Collections.singletonList(req.getName());
+    }
+
+    /**
+     * 변환된 위치 정보를 채우고 대기 표시를 해제하는 메소드
+     *
+     * @param locationResolver
+     */
+    public void enrichPlaceInfo(LocationResolver locationResolver) {
         if (this instanceof Movement) {
-            ((Movement) this).updateMovement(req);
+            ((Movement) this).enrichMovementPlaceInfo(locationResolver);
         } else if (this instanceof Lodgement) {
-            ((Lodgement) this).updateLodgement(req);
+            ((Lodgement) this).enrichLodgementPlaceInfo(locationResolver);
         } else if (this instanceof Stay) {
-            ((Stay) this).updateStay(req);
+            ((Stay) this).enrichStayPlaceInfo(locationResolver);
         } else {
             throw new ItineraryException(ILLEGAL_ITINERARY_TYPE);
         }
+        this.placeInfoPending = false;
     }
 }
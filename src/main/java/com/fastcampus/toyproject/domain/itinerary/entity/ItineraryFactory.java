@@ -5,7 +5,7 @@ import static com.fastcampus.toyproject.domain.itinerary.exception.ItineraryExce
 import static com.fastcampus.toyproject.domain.itinerary.exception.ItineraryExceptionCode.EMPTY_TRANSPORTATION;
 
 import com.fastcampus.toyproject.common.BaseTimeEntity;
-import com.fastcampus.toyproject.common.util.LocationUtil;
+import com.fastcampus.toyproject.common.util.api.resolver.LocationResolver;
 import com.fastcampus.toyproject.domain.itinerary.dto.ItineraryRequest;
 import com.fastcampus.toyproject.domain.itinerary.exception.ItineraryException;
 import com.fastcampus.toyproject.domain.itinerary.exception.ItineraryExceptionCode;
@@ -13,18 +13,16 @@ import com.fastcampus.toyproject.domain.itinerary.type.ItineraryType;
 import com.fastcampus.toyproject.domain.trip.entity.Trip;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.BiFunction;
 
 /**
  * request의 여정 타입이 들어오면 그에 따라 entity를 반환해주는 팩토리 패턴을 적용한 클래스
  */
 public class ItineraryFactory {
 
-    private final static Map<ItineraryType, BiFunction<Trip,
-        ItineraryRequest, Itinerary>> map = new HashMap<>();
+    private final static Map<ItineraryType, ItineraryBuilder> map = new HashMap<>();
 
     static {
-        map.put(ItineraryType.MOVEMENT, (trip, ir) -> {
+        map.put(ItineraryType.MOVEMENT, (trip, ir, locationResolver) -> {
             isValidMovement(ir);
             return Movement.builder()
                     .trip(trip)
@@ -35,14 +33,14 @@ public class ItineraryFactory {
                     .arrivalDate(ir.getEndDate())
                     .departurePlace(ir.getDeparturePlace())
                     .arrivalPlace(ir.getArrivalPlace())
-                    .departurePlaceInfo(LocationUtil.requestKeywordSearch(ir.getDeparturePlace()))
-                    .arrivalPlaceInfo(LocationUtil.requestKeywordSearch(ir.getArrivalPlace()))
+                    .departurePlaceInfo(locationResolver.resolvePlaceName(ir.getDeparturePlace()))
+                    .arrivalPlaceInfo(locationResolver.resolvePlaceName(ir.getArrivalPlace()))
                     .baseTimeEntity(new BaseTimeEntity())
                     .build();
             }
         );
 
-        map.put(ItineraryType.LODGEMENT, (trip, ir) ->
+        map.put(ItineraryType.LODGEMENT, (trip, ir, locationResolver) ->
             Lodgement.builder()
                 .trip(trip)
                 .itineraryName(ir.getName())
@@ -50,12 +48,12 @@ public class ItineraryFactory {
                 .itineraryType(ir.getType())
                 .checkIn(ir.getStartDate())
                 .checkOut(ir.getEndDate())
-                .placeInfo(LocationUtil.requestKeywordSearch(ir.getName()))
+                .placeInfo(locationResolver.resolvePlaceName(ir.getName()))
                 .baseTimeEntity(new BaseTimeEntity())
                 .build()
         );
 
-        map.put(ItineraryType.STAY, (trip, ir) ->
+        map.put(ItineraryType.STAY, (trip, ir, locationResolver) ->
             Stay.builder()
                 .trip(trip)
                 .itineraryName(ir.getName())
@@ -63,7 +61,7 @@ public class ItineraryFactory {
                 .itineraryType(ir.getType())
                 .departureDate(ir.getStartDate())
                 .arrivalDate(ir.getEndDate())
-                .placeInfo(LocationUtil.requestKeywordSearch(ir.getName()))
+                .placeInfo(locationResolver.resolvePlaceName(ir.getName()))
                 .baseTimeEntity(new BaseTimeEntity())
                 .build()
         );
@@ -78,8 +76,24 @@ public class ItineraryFactory {
         }
     }
 
-    public static Itinerary getItineraryEntity(Trip trip, ItineraryRequest ir) {
-        BiFunction<Trip, ItineraryRequest, Itinerary> function = map.get(ir.getType());
-        return function.apply(trip, ir);
+    /**
+     * request 를 entity 로 변환하는 메소드
+     *
+     * @param trip
+     * @param ir
+     * @param locationResolver 장소 keyword 를 위치 정보로 변환하는 resolver
+     * @return itinerary
+     */
+    public static Itinerary getItineraryEntity(
+        Trip trip, ItineraryRequest ir, LocationResolver locationResolver
+    ) {
+        ItineraryBuilder builder = map.get(ir.getType());
+        return builder.build(trip, ir, locationResolver);
+    }
+
+    @FunctionalInterface
+    private interface ItineraryBuilder {
+
+        Itinerary build(Trip trip, ItineraryRequest ir, LocationResolver locationResolver);
     }
 }
@@ -1,9 +1,9 @@
 package com.fastcampus.toyproject.domain.itinerary.entity;
 
-import com.fastcampus.toyproject.common.util.LocationUtil;
+import com.fastcampus.toyproject.common.util.api.resolver.LocationResolver;
 import com.fastcampus.toyproject.domain.itinerary.dto.ItineraryUpdateRequest;
 import java.time.LocalDateTime;
-import javax.persistence.Column;
+import java.util.Objects;
 import javax.persistence.Entity;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -18,11 +18,9 @@ import org.hibernate.annotations.Comment;
 @SuperBuilder
 public class Lodgement extends Itinerary {
 
-    @Column(nullable = false)
     @Comment("체크인 일시")
     private LocalDateTime checkIn;
 
-    @Column(nullable = false)
     @Comment("도착지 일시")
     private LocalDateTime checkOut;
 
@@ -30,12 +28,18 @@ public class Lodgement extends Itinerary {
     private String placeInfo;
 
 
-    public void updateLodgement(ItineraryUpdateRequest req) {
+    public void updateLodgement(ItineraryUpdateRequest req, LocationResolver locationResolver) {
+        // 이름(장소)이 바뀐 경우에만 위치 정보를 다시 변환
+        if (!Objects.equals(getItineraryName(), req.getName())) {
+            this.placeInfo = locationResolver.resolvePlaceName(req.getName());
+        }
         super.updateItineraryName(req.getName());
         super.updateItineraryOrder(req.getOrder());
         this.checkIn = req.getStartDate();
         this.checkOut = req.getEndDate();
-        this.placeInfo = LocationUtil.requestKeywordSearch(req.getName());
     }
 
+    public void enrichLodgementPlaceInfo(LocationResolver locationResolver) {
+        this.placeInfo = locationResolver.resolvePlaceName(getItineraryName());
+    }
 }
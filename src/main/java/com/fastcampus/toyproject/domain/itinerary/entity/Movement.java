@@ -1,9 +1,11 @@
 package com.fastcampus.toyproject.domain.itinerary.entity;
 
-import com.fastcampus.toyproject.common.util.LocationUtil;
+import com.fastcampus.toyproject.common.util.api.resolver.LocationResolver;
 import com.fastcampus.toyproject.domain.itinerary.dto.ItineraryUpdateRequest;
 import java.time.LocalDateTime;
-import javax.persistence.Column;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import javax.persistence.Entity;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -19,19 +21,15 @@ import org.hibernate.annotations.Comment;
 @SuperBuilder
 public class Movement extends Itinerary {
 
-    @Column(nullable = false)
     @Comment("출발 일시")
     private LocalDateTime departureDate;
 
-    @Column(nullable = false)
     @Comment("도착 일시")
     private LocalDateTime arrivalDate;
 
-    @Column(nullable = false)
     @Comment("출발 장소")
     private String departurePlace;
 
-    @Column(nullable = false)
     @Comment("도착 장소")
     private String arrivalPlace;
 
@@ -42,14 +40,35 @@ public class Movement extends Itinerary {
     private String arrivalPlaceInfo;
 
 
-    public void updateMovement(ItineraryUpdateRequest req) {
+    public void updateMovement(ItineraryUpdateRequest req, LocationResolver locationResolver) {
         super.updateItineraryName(req.getName());
         super.updateItineraryOrder(req.getOrder());
         this.departureDate = req.getStartDate();
-        this.departurePlace = req.getDeparturePlace();
         this.arrivalDate = req.getEndDate();
-        this.arrivalPlace = req.getArrivalPlace();
-        this.departurePlaceInfo = LocationUtil.requestKeywordSearch(req.getDeparturePlace());
-        this.arrivalPlaceInfo = LocationUtil.requestKeywordSearch(req.getArrivalPlace());
+        // 장소가 바뀐 경우에만 위치 정보를 다시 변환
+        if (!Objects.equals(departurePlace, req.getDeparturePlace())) {
+            this.departurePlace = req.getDeparturePlace();
+            this.departurePlaceInfo = locationResolver.resolvePlaceName(req.getDeparturePlace());
+        }
+        if (!Objects.equals(arrivalPlace, req.getArrivalPlace())) {
+            this.arrivalPlace = req.getArrivalPlace();
+            this.arrivalPlaceInfo = locationResolver.resolvePlaceName(req.getArrivalPlace());
+        }
+    }
+
+    public List<String> getChangedMovementPlaceKeywords(ItineraryUpdateRequest req) {
+        List<String> changedKeywords = new ArrayList<>();
+        if (!Objects.equals(departurePlace, req.getDeparturePlace())) {
+            changedKeywords.add(req.getDeparturePlace());
+        }
+        if (!Objects.equals(arrivalPlace, req.getArrivalPlace())) {
+            changedKeywords.add(req.getArrivalPlace());
+        }
+        return changedKeywords;
+    }
+
+    public void enrichMovementPlaceInfo(LocationResolver locationResolver) {
+        this.departurePlaceInfo = locationResolver.resolvePlaceName(departurePlace);
+        this.arrivalPlaceInfo = locationResolver.resolvePlaceName(arrivalPlace);
     }
 }
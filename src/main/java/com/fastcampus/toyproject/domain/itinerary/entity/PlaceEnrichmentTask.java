@@ -0,0 +1,115 @@
+package com.fastcampus.toyproject.domain.itinerary.entity;
+
+import com.fastcampus.toyproject.common.BaseTimeEntity;
+import com.fastcampus.toyproject.domain.itinerary.type.PlaceEnrichmentStatus;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+/**
+ * 여정 위치 정보 비동기 변환 작업 (DB 에 저장되는 작업 큐)
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+@Table(indexes = @Index(name = "idx_place_enrichment_task_status", columnList = "status, nextAttemptAt"))
+public class PlaceEnrichmentTask {
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Comment("위치 정보 변환 작업 ID")
+    private Long taskId;
+
+    @Column(nullable = false)
+    @Comment("여정 ID")
+    private Long itineraryId;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    @Comment("작업 상태")
+    private PlaceEnrichmentStatus status;
+
+    @Column(nullable = false)
+    @Comment("시도 횟수")
+    private Integer attempts;
+
+    @Column(nullable = false)
+    @Comment("다음 시도 일시")
+    private LocalDateTime nextAttemptAt;
+
+    @Comment("마지막 실패 사유")
+    private String lastError;
+
+    @Comment("완료 일시")
+    private LocalDateTime completedAt;
+
+    @Embedded
+    private BaseTimeEntity baseTimeEntity;
+
+    public static PlaceEnrichmentTask of(Long itineraryId) {
+        return PlaceEnrichmentTask.builder()
+            .itineraryId(itineraryId)
+            .status(PlaceEnrichmentStatus.PENDING)
+            .attempts(0)
+            .nextAttemptAt(LocalDateTime.now())
+            .baseTimeEntity(new BaseTimeEntity())
+            .build();
+    }
+
+    /**
+     * 작업을 가져간 worker 가 lease 동안 독점하도록 다음 시도 일시를 미룸.
+     * worker 가 처리 중 종료되어도 lease 가 지나면 다른 worker 가 다시 가져갈 수 있다.
+     *
+     * @param lease
+     */
+    public void claim(Duration lease) {
+        this.nextAttemptAt = LocalDateTime.now().plus(lease);
+    }
+
+    public void complete() {
+        this.status = PlaceEnrichmentStatus.DONE;
+        this.attempts++;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 실패 기록 후 재시도 예약. 최대 시도 횟수를 넘으면 실패 처리
+     *
+     * @param error
+     * @param maxAttempts
+     * @param backoff     첫 재시도까지의 대기 시간 (시도마다 2배씩 증가)
+     */
+    public void retryLater(String error, int maxAttempts, Duration backoff) {
+        this.attempts++;
+        this.lastError = error == null || error.length() <= MAX_ERROR_LENGTH
+            ? error : error.substring(0, MAX_ERROR_LENGTH);
+
+        if (attempts >= maxAttempts) {
+            this.status = PlaceEnrichmentStatus.FAILED;
+            return;
+        }
+        this.nextAttemptAt = LocalDateTime.now()
+            .plus(backoff.multipliedBy(1L << Math.min(attempts - 1, 10)));
+    }
+}
@@ -1,9 +1,9 @@
 package com.fastcampus.toyproject.domain.itinerary.entity;
 
-import com.fastcampus.toyproject.common.util.LocationUtil;
+import com.fastcampus.toyproject.common.util.api.resolver.LocationResolver;
 import com.fastcampus.toyproject.domain.itinerary.dto.ItineraryUpdateRequest;
 import java.time.LocalDateTime;
-import javax.persistence.Column;
+import java.util.Objects;
 import javax.persistence.Entity;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -18,22 +18,27 @@ import org.hibernate.annotations.Comment;
 @SuperBuilder
 public class Stay extends Itinerary {
 
-    @Column(nullable = false)
     @Comment("출발 일시")
     private LocalDateTime departureDate;
 
-    @Column(nullable = false)
     @Comment("도착 일시")
     private LocalDateTime arrivalDate;
 
     @Comment("위치 정보")
     private String placeInfo;
 
-    public void updateStay(ItineraryUpdateRequest req) {
+    public void updateStay(ItineraryUpdateRequest req, LocationResolver locationResolver) {
+        // 이름(장소)이 바뀐 경우에만 위치 정보를 다시 변환
+        if (!Objects.equals(getItineraryName(), req.getName())) {
+            this.placeInfo = locationResolver.resolvePlaceName(req.getName());
+        }
         super.updateItineraryName(req.getName());
         super.updateItineraryOrder(req.getOrder());
         this.departureDate = req.getStartDate();
         this.arrivalDate = req.getEndDate();
-        this.placeInfo = LocationUtil.requestKeywordSearch(req.getName());
+    }
+
+    public void enrichStayPlaceInfo(LocationResolver locationResolver) {
+        this.placeInfo = locationResolver.resolvePlaceName(getItineraryName());
     }
 }
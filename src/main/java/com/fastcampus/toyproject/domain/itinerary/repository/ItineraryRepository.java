@@ -1,11 +1,19 @@
 package com.fastcampus.toyproject.domain.itinerary.repository;
 
 import com.fastcampus.toyproject.domain.itinerary.entity.Itinerary;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 
 @Repository
 public interface ItineraryRepository extends JpaRepository<Itinerary, Long> {
 
+    /**
+     * trip 의 삭제되지 않은 여정 순서만 조회 (entity 를 만들지 않음, 요청 사전 검증용)
+     */
+    @Query("SELECT i.itineraryOrder FROM Itinerary i WHERE i.trip.tripId = :tripId AND i.baseTimeEntity.deletedAt IS NULL")
+    List<Integer> findActiveOrdersByTripId(@Param("tripId") Long tripId);
 }
@@ -0,0 +1,42 @@
+package com.fastcampus.toyproject.domain.itinerary.repository;
+
+import com.fastcampus.toyproject.domain.itinerary.entity.PlaceEnrichmentTask;
+import com.fastcampus.toyproject.domain.itinerary.type.PlaceEnrichmentStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PlaceEnrichmentTaskRepository extends JpaRepository<PlaceEnrichmentTask, Long> {
+
+    /**
+     * 실행 시각이 된 대기 작업을 잠그고 가져옴.
+     * 다른 worker 가 잠근 작업은 건너뛰므로 (SKIP LOCKED) 여러 인스턴스가 같은 작업을 가져가지 않는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT t FROM PlaceEnrichmentTask t "
+        + "WHERE t.status = :status AND t.nextAttemptAt <= :now ORDER BY t.taskId ASC")
+    List<PlaceEnrichmentTask> findClaimableTasks(
+        @Param("status") PlaceEnrichmentStatus status,
+        @Param("now") LocalDateTime now,
+        Pageable pageable
+    );
+
+    @Modifying
+    @Query("DELETE FROM PlaceEnrichmentTask t "
+        + "WHERE t.status = :status AND t.completedAt < :completedBefore")
+    int deleteCompletedBefore(
+        @Param("status") PlaceEnrichmentStatus status,
+        @Param("completedBefore") LocalDateTime completedBefore
+    );
+}
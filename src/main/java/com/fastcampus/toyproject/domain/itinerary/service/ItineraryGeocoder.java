@@ -0,0 +1,173 @@
+package com.fastcampus.toyproject.domain.itinerary.service;
+
+import com.fastcampus.toyproject.common.util.api.dto.Document;
+import com.fastcampus.toyproject.common.util.api.resolver.LocationResolver;
+import com.fastcampus.toyproject.domain.itinerary.dto.ItineraryRequest;
+import com.fastcampus.toyproject.domain.itinerary.type.ItineraryType;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여정 요청들에 포함된 장소를 한 번에 위치 정보로 변환하는 클래스.
+ * 요청 전체에서 중복되는 장소(N번째 이동의 도착지 = N+1번째 이동의 출발지 등)는 한 번만 조회한다.
+ * API 요청 중의 변환은 요청 단위 deadline 안에서만 기다리고, 늦은 장소는 keyword 그대로 사용한다 (degraded).
+ * API 요청에서는 GeocodingExecutor.nonBlocking() 을 넘겨, executor 가 가득 차면 요청 스레드가 직접 조회하지 않고
+ * 바로 degraded 로 처리되게 한다.
+ */
+@Slf4j
+@Component
+public class ItineraryGeocoder {
+
+    private final LocationResolver locationResolver;
+    private final Duration requestDeadline;
+
+    public ItineraryGeocoder(
+        LocationResolver locationResolver,
+        @Value("${itinerary.geocoding.deadline-ms:3000}") long requestDeadlineMillis
+    ) {
+        this.locationResolver = locationResolver;
+        this.requestDeadline = Duration.ofMillis(requestDeadlineMillis);
+    }
+
+    /**
+     * 요청들의 서로 다른 장소 keyword 를 요청 deadline 안에서 병렬로 변환하는 메소드
+     *
+     * @param itineraryRequests
+     * @param executor
+     * @return resolvedPlaces
+     */
+    public ResolvedPlaces resolve(
+        Collection<? extends ItineraryRequest> itineraryRequests, Executor executor
+    ) {
+        List<String> keywords = new ArrayList<>();
+        for (ItineraryRequest ir : itineraryRequests) {
+            keywords.addAll(getPlaceKeywords(ir));
+        }
+
+        ResolvedPlaces resolvedPlaces = resolveKeywordsWithinDeadline(keywords, executor);
+        log.info("[ItineraryGeocoder] itineraries: {}, distinct places: {}, degraded: {}",
+            itineraryRequests.size(), resolvedPlaces.size(), resolvedPlaces.getDegradedCount());
+        return resolvedPlaces;
+    }
+
+    /**
+     * 장소 keyword 들을 요청 deadline 안에서 병렬로 변환하는 메소드 (API 요청 처리용)
+     *
+     * @param keywordList
+     * @param executor
+     * @return resolvedPlaces
+     */
+    public ResolvedPlaces resolveKeywordsWithinDeadline(
+        Collection<String> keywordList, Executor executor
+    ) {
+        return resolveKeywords(keywordList, executor, requestDeadline);
+    }
+
+    /**
+     * 장소 keyword 들을 deadline 없이 병렬로 변환하는 메소드 (백그라운드 작업용).
+     * 조회에 실패한 keyword 는 (일시적으로 검색할 수 없는 경우 포함) 예외를 던지지 않고 degraded 로 기록하여,
+     * keyword 그대로 채우지 않고 해당 keyword 를 쓰는 작업만 재시도할 수 있게 한다.
+     *
+     * @param keywordList
+     * @param executor
+     * @return resolvedPlaces
+     */
+    public ResolvedPlaces resolveKeywords(Collection<String> keywordList, Executor executor) {
+        return resolveKeywords(keywordList, executor, null);
+    }
+
+    /**
+     * 장소 keyword 들을 중복 없이 병렬로 변환하는 메소드.
+     * 실패했거나 executor 가 거절한 조회는 degraded 로 기록한다.
+     * deadline 이 있으면 모든 조회가 같은 시점에 끝나도록 기다리고, 그때까지 끝나지 않은 조회도 degraded 로 기록한다.
+     *
+     * @param keywordList
+     * @param executor
+     * @param deadline
+     * @return resolvedPlaces
+     */
+    private ResolvedPlaces resolveKeywords(
+        Collection<String> keywordList, Executor executor, Duration deadline
+    ) {
+        Map<String, String> keywords = new LinkedHashMap<>();
+        for (String keyword : keywordList) {
+            if (keyword != null) {
+                keywords.putIfAbsent(LocationResolver.normalizeKeyword(keyword), keyword);
+            }
+        }
+
+        // 실패한 조회는 null (degraded) 로 완료한다. 변환 실패로 여정 저장/수정 전체가 실패하지 않게 하고,
+        // 백그라운드 작업에서는 circuit breaker / rate limiter 거절도 keyword 그대로 완료하지 않게 한다.
+        // deadline 이 지나면 조회 결과 대신 null 로 완료 (아직 시작하지 않은 조회는 실행되지 않는다)
+        // executor 가 가득 차서 거절된 조회도 null (degraded) 로 처리한다.
+        Map<String, CompletableFuture<Optional<Document>>> lookups = new LinkedHashMap<>();
+        keywords.forEach((key, keyword) -> {
+            CompletableFuture<Optional<Document>> lookup;
+            try {
+                lookup = CompletableFuture.supplyAsync(() -> locationResolver.resolve(keyword), executor)
+                    .exceptionally(e -> {
+                        log.warn("[ItineraryGeocoder] 장소 변환 실패 keyword: {}, message: {}",
+                            keyword, e.getMessage());
+                        return null;
+                    });
+                if (deadline != null) {
+                    lookup = lookup.completeOnTimeout(null, deadline.toMillis(), TimeUnit.MILLISECONDS);
+                }
+            } catch (RejectedExecutionException e) {
+                lookup = CompletableFuture.completedFuture(null);
+            }
+            lookups.put(key, lookup);
+        });
+
+        Map<String, Optional<Document>> placeByKeyword = new LinkedHashMap<>();
+        CompletableFuture.allOf(lookups.values().toArray(new CompletableFuture[0])).join();
+        Set<String> degradedKeywords = new HashSet<>();
+        lookups.forEach((key, lookup) -> {
+            Optional<Document> place = lookup.join();
+            if (place == null) {
+                degradedKeywords.add(key);
+                place = Optional.empty();
+            }
+            placeByKeyword.put(key, place);
+        });
+
+        if (deadline != null && !degradedKeywords.isEmpty()) {
+            log.warn("[ItineraryGeocoder] deadline({}ms) 초과, executor 포화 또는 변환 실패로 keyword 그대로 사용 : {}",
+                deadline.toMillis(), degradedKeywords);
+        }
+        return new ResolvedPlaces(placeByKeyword, degradedKeywords);
+    }
+
+    /**
+     * 여정 타입별로 위치 정보가 필요한 keyword 반환 (ItineraryFactory 와 같은 기준)
+     *
+     * @param ir
+     * @return keywords
+     */
+    private static List<String> getPlaceKeywords(ItineraryRequest ir) {
+        if (ir.getType() == null) {
+            // 타입을 알 수 없는 수정 요청은 변환될 수 있는 장소를 모두 조회
+            return Arrays.asList(ir.getName(), ir.getDeparturePlace(), ir.getArrivalPlace());
+        }
+        if (ir.getType() == ItineraryType.MOVEMENT) {
+            return Arrays.asList(ir.getDeparturePlace(), ir.getArrivalPlace());
+        }
+        return Collections.singletonList(ir.getName());
+    }
+}
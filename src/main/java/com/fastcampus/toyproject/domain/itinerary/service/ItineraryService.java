@@ -8,6 +8,7 @@ import static com.fastcampus.toyproject.domain.itinerary.exception.ItineraryExce
 import static com.fastcampus.toyproject.domain.trip.exception.TripExceptionCode.NOT_MATCH_BETWEEN_USER_AND_TRIP;
 import static com.fastcampus.toyproject.domain.trip.exception.TripExceptionCode.NO_SUCH_TRIP;
 
+import com.fastcampus.toyproject.config.async.GeocodingExecutor;
 import com.fastcampus.toyproject.domain.itinerary.dto.ItineraryRequest;
 import com.fastcampus.toyproject.domain.itinerary.dto.ItineraryResponse;
 import com.fastcampus.toyproject.domain.itinerary.dto.ItineraryResponseFactory;
@@ -18,6 +19,7 @@ import com.fastcampus.toyproject.domain.itinerary.exception.ItineraryException;
 import com.fastcampus.toyproject.domain.itinerary.repository.ItineraryRepository;
 import com.fastcampus.toyproject.domain.itinerary.util.ItineraryOrderUtil;
 import com.fastcampus.toyproject.domain.trip.entity.Trip;
+import com.fastcampus.toyproject.domain.trip.event.TripChangedEvent;
 import com.fastcampus.toyproject.domain.trip.exception.TripException;
 import com.fastcampus.toyproject.domain.trip.repository.TripRepository;
 import com.fastcampus.toyproject.domain.trip.service.TripService;
@@ -28,15 +30,15 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -45,8 +47,11 @@ public class ItineraryService {
 
     private final TripService tripService;
     private final ItineraryRepository itineraryRepository;
-    private static final ExecutorService executorService = Executors.newFixedThreadPool(10);
-    // 최대 10개의 스레드를 사용하는 ExecutorService 생성 (조정 가능)
+    private final ItineraryGeocoder itineraryGeocoder;
+    private final TransactionTemplate transactionTemplate;
+    private final PlaceEnrichmentQueue placeEnrichmentQueue;
+    private final GeocodingExecutor geocodingExecutor;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * trip 객체를 이용하여 연관된 itinerary 리스트 반환하는 메소드
@@ -83,62 +88,122 @@ public class ItineraryService {
     }
 
     /**
-     * itinerary (1개 이상) 삽입하는 메소드
+     * itinerary (1개 이상) 삽입하는 메소드.
+     * kakao 호출은 트랜잭션 밖에서 끝내고, 짧은 트랜잭션 안에서는 검증과 저장만 수행한다.
      *
      * @param tripId
      * @param itineraryRequests
      * @return
      */
-    @Transactional
     public List<ItineraryResponse> insertItineraries(
         Long tripId, Long userId, List<ItineraryRequest> itineraryRequests
     ) {
         /*
-        1. tripid를 통한 trip 객체 찾기. (method : getTrip(tripId))
-        2. 여정 테이블에서 모든 값 가져오기.
-        3. 현 request 에서 entity로 변환하여 리스트에 추가.
-        4. response 리스트 정렬. (오더 순서대로)
+        1. 요청 전체의 장소들을 중복 없이 위치 정보로 변환. (트랜잭션 밖)
+        2. tripid를 통한 trip 객체 찾기. (method : getTrip(tripId))
+        3. 여정 테이블에서 모든 값 가져오기.
+        4. 현 request 에서 entity로 변환하여 리스트에 추가.
+        5. response 리스트 정렬. (오더 순서대로)
          */
         long startTime = System.currentTimeMillis();
+
+        // 권한이 없거나 잘못된 요청이 kakao quota 를 쓰지 않도록 변환 전에 가볍게 검증 (저장 시 다시 검증)
+        validateInsertRequest(tripId, userId, itineraryRequests);
+
+        // 요청 전체의 서로 다른 장소들을 먼저 병렬로 변환 (DB 커넥션을 잡지 않은 상태)
+        // async 모드에서는 변환하지 않고 저장 후 worker 가 채운다.
+        ResolvedPlaces resolvedPlaces = resolvePlaces(itineraryRequests);
+
+        List<ItineraryResponse> itineraryResponseList = transactionTemplate.execute(status ->
+            saveItineraries(tripId, userId, itineraryRequests, resolvedPlaces)
+        );
+
+        long endTime = System.currentTimeMillis();
+        log.info("[ItinerarySerivice.insert] time: {} ", endTime-startTime);
+        return itineraryResponseList;
+    }
+
+    /**
+     * kakao 호출 전에 trip 존재, 소유자, 여정 순서를 가볍게 검증하는 메소드 (트랜잭션 밖).
+     * 여정 entity 는 읽지 않고 순서만 조회하며, 저장 트랜잭션 안에서 같은 검증을 다시 수행한다.
+     *
+     * @param tripId
+     * @param userId
+     * @param itineraryRequests
+     */
+    private void validateInsertRequest(
+        Long tripId, Long userId, List<ItineraryRequest> itineraryRequests
+    ) {
+        isMatchUserAndTrip(userId, tripService.getTripByTripId(tripId));
+
+        List<Integer> orderList = new ArrayList<>(itineraryRepository.findActiveOrdersByTripId(tripId));
+        for (ItineraryRequest ir : itineraryRequests) {
+            orderList.add(ir.getOrder());
+        }
+        ItineraryOrderUtil.validateItinerariesOrder(orderList);
+    }
+
+    /**
+     * 요청들의 장소를 위치 정보로 변환. async 모드면 변환 없이 대기 상태로 반환하는 메소드
+     *
+     * @param itineraryRequests
+     * @return resolvedPlaces
+     */
+    private ResolvedPlaces resolvePlaces(List<ItineraryRequest> itineraryRequests) {
+        if (placeEnrichmentQueue.isEnabled()) {
+            return ResolvedPlaces.pending();
+        }
+        return itineraryGeocoder.resolve(itineraryRequests, geocodingExecutor.nonBlocking());
+    }
+
+    /**
+     * 변환된 위치 정보로 itinerary 들을 검증 후 저장하는 메소드 (트랜잭션 안에서 호출)
+     *
+     * @param tripId
+     * @param userId
+     * @param itineraryRequests
+     * @param resolvedPlaces
+     * @return itineraryResponseList
+     */
+    private List<ItineraryResponse> saveItineraries(
+        Long tripId, Long userId, List<ItineraryRequest> itineraryRequests,
+        ResolvedPlaces resolvedPlaces
+    ) {
         List<ItineraryResponse> itineraryResponseList = new ArrayList<>();
         Trip trip = getTrip(tripId);
         isMatchUserAndTrip(userId, trip);
 
         validateItineraryRequestOrder(itineraryRequests, trip);
 
-//        List<Itinerary> itineraryList = new ArrayList<>();
-        ConcurrentLinkedQueue<Itinerary> itineraryList = new ConcurrentLinkedQueue<>();
-        List<CompletableFuture<Void>> apiCalls = new ArrayList<>();
-
+        List<Itinerary> itineraryList = new ArrayList<>();
         for (ItineraryRequest ir : itineraryRequests) {
-
-//            log.info("kakao call.. ");
-            CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
-                itineraryList.add(ItineraryFactory.getItineraryEntity(trip, ir));
-            }, executorService);
-            apiCalls.add(future);
-//            log.info("kakao call end..");
+            itineraryList.add(
+                ItineraryFactory.getItineraryEntity(trip, ir, resolvedPlaces)
+            );
         }
 
-        // 모든 API 호출이 완료될 때까지 대기
-        CompletableFuture<Void> allOf = CompletableFuture.allOf(apiCalls.toArray(new CompletableFuture[0]));
-        allOf.join(); // 모든 API 호출이 완료될 때까지 대기
-        executorService.shutdown(); // ExecutorService 종료
-
+        // async 모드면 전체, 아니면 deadline 안에 변환하지 못한 여정만 worker 가 나중에 채운다.
+        List<Itinerary> enrichmentTargets = resolvedPlaces.isPending()
+            ? itineraryList : getDegradedItineraries(itineraryList, resolvedPlaces);
+        enrichmentTargets.forEach(Itinerary::markPlaceInfoPending);
 
         List<Itinerary> saveItineraryList = itineraryRepository.saveAll(itineraryList);
         if (saveItineraryList == null) {
             throw new ItineraryException(ITINERARY_SAVE_FAILED);
         }
 
+        if (!enrichmentTargets.isEmpty()) {
+            placeEnrichmentQueue.enqueue(enrichmentTargets);
+        }
+
         for (Itinerary it : saveItineraryList) {
             itineraryResponseList.add(
                     ItineraryResponseFactory.getItineraryResponse(it)
             );
         }
+        markDegradedPlaceInfo(itineraryResponseList, saveItineraryList, resolvedPlaces);
         ItineraryOrderUtil.sortItineraryResponseListByOrder(itineraryResponseList);
-        long endTime = System.currentTimeMillis();
-        log.info("[ItinerarySerivice.insert] time: {} ", endTime-startTime);
+        eventPublisher.publishEvent(new TripChangedEvent(tripId));
         return itineraryResponseList;
     }
 
@@ -186,7 +251,7 @@ public class ItineraryService {
      * @return
      */
     private Trip getTrip(Long tripId) {
-        return tripService.getTripByTripId(tripId);
+        return tripService.getTripWithItineraries(tripId);
     }
 
     /**
@@ -240,6 +305,7 @@ public class ItineraryService {
 
         //3. 남은 여정들의 순서 재정의 - 여정 순서대로 entity 정렬
         sortAgainItineraryOrder(getItineraryList(getTrip(tripId)));
+        eventPublisher.publishEvent(new TripChangedEvent(tripId));
         return deleteItList;
     }
 
@@ -251,13 +317,14 @@ public class ItineraryService {
     }
 
     /**
-     * itinerary (1개 이상) 수정하는 메소드
+     * itinerary (1개 이상) 수정하는 메소드.
+     * 삽입과 마찬가지로 위치 정보 변환은 트랜잭션 밖에서 먼저 수행하며,
+     * 기존과 장소가 달라진 경우에만 변환한다. (이름/시간만 바뀐 수정은 kakao 호출 없음)
      *
      * @param tripId
      * @param itineraryUpdateRequests
      * @return
      */
-    @Transactional(readOnly = false)
     public List<ItineraryResponse> updateItineraries(Long tripId,
         Long userId, List<ItineraryUpdateRequest> itineraryUpdateRequests) {
 
@@ -265,6 +332,35 @@ public class ItineraryService {
             throw new ItineraryException(EMPTY_ITINERARY);
         }
 
+        // 권한이 없거나 다른 trip 의 여정을 수정하는 요청은 kakao 호출 전에 거절 (트랜잭션 안에서 다시 검증)
+        isMatchUserAndTrip(userId, tripService.getTripByTripId(tripId));
+        Map<Long, Itinerary> storedItineraries = getStoredItineraries(tripId, itineraryUpdateRequests);
+
+        // 바뀐 장소만 병렬로 변환 (async 모드면 변환하지 않음)
+        ResolvedPlaces resolvedPlaces = placeEnrichmentQueue.isEnabled()
+            ? ResolvedPlaces.pending()
+            : itineraryGeocoder.resolveKeywordsWithinDeadline(
+                getChangedPlaceKeywords(storedItineraries, itineraryUpdateRequests),
+                geocodingExecutor.nonBlocking()
+            );
+
+        return transactionTemplate.execute(status ->
+            applyItineraryUpdates(tripId, userId, itineraryUpdateRequests, resolvedPlaces)
+        );
+    }
+
+    /**
+     * 변환된 위치 정보로 itinerary 들을 검증 후 수정하는 메소드 (트랜잭션 안에서 호출)
+     *
+     * @param tripId
+     * @param userId
+     * @param itineraryUpdateRequests
+     * @param resolvedPlaces
+     * @return itineraryResponseList
+     */
+    private List<ItineraryResponse> applyItineraryUpdates(Long tripId, Long userId,
+        List<ItineraryUpdateRequest> itineraryUpdateRequests, ResolvedPlaces resolvedPlaces) {
+
         Trip trip = getTrip(tripId);
         isMatchUserAndTrip(userId, trip);
 
@@ -274,20 +370,126 @@ public class ItineraryService {
             map.put(it.getItineraryId(), true);
         }
 
+        List<Itinerary> placeChangedItineraryList = new ArrayList<>();
+        List<Itinerary> enrichmentTargets = new ArrayList<>();
         for (ItineraryUpdateRequest req : itineraryUpdateRequests) {
             Itinerary itinerary = getItinerary(req.getItineraryId());
 
             if (!map.containsKey(req.getItineraryId())) {
                 throw new ItineraryException(ITINERARY_NOT_MATCH_TRIP);
             }
-            itinerary.update(req);
+            boolean placeChanged = !itinerary.getChangedPlaceKeywords(req).isEmpty();
+            itinerary.update(req, resolvedPlaces);
+            if (placeChanged && (resolvedPlaces.isPending() || hasDegradedPlace(itinerary, resolvedPlaces))) {
+                itinerary.markPlaceInfoPending();
+                enrichmentTargets.add(itinerary);
+            }
             Itinerary saveIt = itineraryRepository.save(itinerary);
             if (saveIt == null) {
                 throw new ItineraryException(ITINERARY_SAVE_FAILED);
             }
+            if (placeChanged) {
+                placeChangedItineraryList.add(saveIt);
+            }
+        }
+
+        if (!enrichmentTargets.isEmpty()) {
+            placeEnrichmentQueue.enqueue(enrichmentTargets);
+        }
+
+        List<ItineraryResponse> itineraryResponseList = getItineraryResponseListByTrip(trip);
+        markDegradedPlaceInfo(itineraryResponseList, placeChangedItineraryList, resolvedPlaces);
+        eventPublisher.publishEvent(new TripChangedEvent(tripId));
+        return itineraryResponseList;
+    }
+
+    /**
+     * deadline 안에 변환하지 못한 장소를 가진 itinerary 의 응답에 degraded 표시하는 메소드
+     *
+     * @param itineraryResponseList
+     * @param itineraries
+     * @param resolvedPlaces
+     */
+    private static void markDegradedPlaceInfo(List<ItineraryResponse> itineraryResponseList,
+        List<Itinerary> itineraries, ResolvedPlaces resolvedPlaces) {
+        if (resolvedPlaces.getDegradedCount() == 0) {
+            return;
+        }
+        Set<Long> degradedIds = getDegradedItineraries(itineraries, resolvedPlaces).stream()
+            .map(Itinerary::getItineraryId)
+            .collect(Collectors.toSet());
+        itineraryResponseList.stream()
+            .filter(res -> degradedIds.contains(res.getId()))
+            .forEach(ItineraryResponse::markPlaceInfoDegraded);
+    }
+
+    /**
+     * deadline 안에 변환하지 못한 장소를 가진 itinerary 리스트 반환하는 메소드
+     *
+     * @param itineraries
+     * @param resolvedPlaces
+     * @return degradedItineraries
+     */
+    private static List<Itinerary> getDegradedItineraries(
+        List<Itinerary> itineraries, ResolvedPlaces resolvedPlaces
+    ) {
+        if (resolvedPlaces.getDegradedCount() == 0) {
+            return Collections.emptyList();
         }
+        return itineraries.stream()
+            .filter(it -> hasDegradedPlace(it, resolvedPlaces))
+            .collect(Collectors.toList());
+    }
 
-        return getItineraryResponseListByTrip(trip);
+    private static boolean hasDegradedPlace(Itinerary itinerary, ResolvedPlaces resolvedPlaces) {
+        return itinerary.getPlaceKeywords().stream().anyMatch(resolvedPlaces::isDegraded);
     }
 
+    /**
+     * 수정 요청의 itinerary 들을 조회하고, 모두 해당 trip 의 삭제되지 않은 여정인지 검증하는 메소드 (트랜잭션 밖)
+     *
+     * @param tripId
+     * @param itineraryUpdateRequests
+     * @return storedItineraries
+     */
+    private Map<Long, Itinerary> getStoredItineraries(
+        Long tripId, List<ItineraryUpdateRequest> itineraryUpdateRequests
+    ) {
+        Map<Long, Itinerary> storedItineraries = itineraryRepository.findAllById(
+            itineraryUpdateRequests.stream()
+                .map(ItineraryUpdateRequest::getItineraryId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList())
+        ).stream().collect(Collectors.toMap(Itinerary::getItineraryId, it -> it));
+
+        for (ItineraryUpdateRequest req : itineraryUpdateRequests) {
+            Itinerary stored = storedItineraries.get(req.getItineraryId());
+            if (stored == null) {
+                throw new ItineraryException(NO_ITINERARY);
+            }
+            if (!Objects.equals(stored.getTrip().getTripId(), tripId) || stored.isDeleted()) {
+                throw new ItineraryException(ITINERARY_NOT_MATCH_TRIP);
+            }
+        }
+        return storedItineraries;
+    }
+
+    /**
+     * 저장된 itinerary 와 비교하여 장소가 바뀐 keyword 만 반환하는 메소드
+     *
+     * @param storedItineraries
+     * @param itineraryUpdateRequests
+     * @return changedPlaceKeywords
+     */
+    private static List<String> getChangedPlaceKeywords(
+        Map<Long, Itinerary> storedItineraries, List<ItineraryUpdateRequest> itineraryUpdateRequests
+    ) {
+        List<String> changedKeywords = new ArrayList<>();
+        for (ItineraryUpdateRequest req : itineraryUpdateRequests) {
+            changedKeywords.addAll(
+                storedItineraries.get(req.getItineraryId()).getChangedPlaceKeywords(req)
+            );
+        }
+        return changedKeywords;
+    }
 }
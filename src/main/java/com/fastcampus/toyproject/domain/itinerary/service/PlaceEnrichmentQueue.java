@@ -0,0 +1,46 @@
+package com.fastcampus.toyproject.domain.itinerary.service;
+
+import com.fastcampus.toyproject.domain.itinerary.entity.Itinerary;
+import com.fastcampus.toyproject.domain.itinerary.entity.PlaceEnrichmentTask;
+import com.fastcampus.toyproject.domain.itinerary.repository.PlaceEnrichmentTaskRepository;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여정 위치 정보 비동기 변환 작업을 큐 테이블에 등록하는 클래스.
+ * async 모드에서는 여정 저장 시 kakao 를 호출하지 않고, 저장과 같은 트랜잭션에서 작업만 등록한다.
+ * async 모드가 아니어도 deadline 안에 변환하지 못한 (degraded) 여정은 작업으로 등록하여 나중에 채운다.
+ */
+@Component
+public class PlaceEnrichmentQueue {
+
+    private final PlaceEnrichmentTaskRepository taskRepository;
+    private final boolean enabled;
+
+    public PlaceEnrichmentQueue(
+        PlaceEnrichmentTaskRepository taskRepository,
+        @Value("${itinerary.place-enrichment.async:false}") boolean enabled
+    ) {
+        this.taskRepository = taskRepository;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 저장된 itinerary 들의 위치 정보 변환 작업 등록 (트랜잭션 안에서 호출)
+     *
+     * @param itineraries
+     */
+    public void enqueue(List<Itinerary> itineraries) {
+        taskRepository.saveAll(
+            itineraries.stream()
+                .map(it -> PlaceEnrichmentTask.of(it.getItineraryId()))
+                .collect(Collectors.toList())
+        );
+    }
+}
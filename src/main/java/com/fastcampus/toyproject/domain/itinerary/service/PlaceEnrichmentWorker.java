@@ -0,0 +1,177 @@
+package com.fastcampus.toyproject.domain.itinerary.service;
+
+import com.fastcampus.toyproject.common.util.api.service.KakaoLocationClient;
+import com.fastcampus.toyproject.config.async.GeocodingExecutor;
+import com.fastcampus.toyproject.domain.itinerary.entity.Itinerary;
+import com.fastcampus.toyproject.domain.itinerary.entity.PlaceEnrichmentTask;
+import com.fastcampus.toyproject.domain.itinerary.repository.ItineraryRepository;
+import com.fastcampus.toyproject.domain.itinerary.repository.PlaceEnrichmentTaskRepository;
+import com.fastcampus.toyproject.domain.itinerary.type.PlaceEnrichmentStatus;
+import com.fastcampus.toyproject.domain.trip.event.TripChangedEvent;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 큐 테이블의 대기 작업을 batch 단위로 가져와 여정 위치 정보를 채우는 worker.
+ * 작업은 짧은 트랜잭션에서 잠금과 lease 로 가져가므로 여러 인스턴스가 같은 작업을 처리하지 않는다.
+ * kakao 호출은 트랜잭션 밖에서 수행하고, 장소 변환에 실패한 작업만 지수 backoff 로 재시도한다.
+ * async 모드가 아니어도 API 요청에서 deadline 안에 변환하지 못한 여정을 채우기 위해 동작한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "itinerary.place-enrichment.worker-enabled", havingValue = "true",
+    matchIfMissing = true)
+public class PlaceEnrichmentWorker {
+
+    private final PlaceEnrichmentTaskRepository taskRepository;
+    private final ItineraryRepository itineraryRepository;
+    private final ItineraryGeocoder itineraryGeocoder;
+    private final KakaoLocationClient locationClient;
+    private final GeocodingExecutor geocodingExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration claimLease;
+    private final Duration doneRetention;
+
+    public PlaceEnrichmentWorker(
+        PlaceEnrichmentTaskRepository taskRepository,
+        ItineraryRepository itineraryRepository,
+        ItineraryGeocoder itineraryGeocoder,
+        KakaoLocationClient locationClient,
+        GeocodingExecutor geocodingExecutor,
+        TransactionTemplate transactionTemplate,
+        ApplicationEventPublisher eventPublisher,
+        @Value("${itinerary.place-enrichment.batch-size:50}") int batchSize,
+        @Value("${itinerary.place-enrichment.max-attempts:5}") int maxAttempts,
+        @Value("${itinerary.place-enrichment.retry-backoff-ms:5000}") long retryBackoffMs,
+        @Value("${itinerary.place-enrichment.claim-lease-ms:60000}") long claimLeaseMs,
+        @Value("${itinerary.place-enrichment.done-retention-hours:24}") long doneRetentionHours
+    ) {
+        this.taskRepository = taskRepository;
+        this.itineraryRepository = itineraryRepository;
+        this.itineraryGeocoder = itineraryGeocoder;
+        this.locationClient = locationClient;
+        this.geocodingExecutor = geocodingExecutor;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = Duration.ofMillis(retryBackoffMs);
+        this.claimLease = Duration.ofMillis(claimLeaseMs);
+        this.doneRetention = Duration.ofHours(doneRetentionHours);
+    }
+
+    /**
+     * 실행 시각이 된 대기 작업 batch 하나를 가져와 처리하는 메소드
+     */
+    @Scheduled(fixedDelayString = "${itinerary.place-enrichment.poll-interval-ms:1000}")
+    public void enrichPendingPlaces() {
+        if (!locationClient.isAvailable()) {
+            // kakao 장애 중에는 keyword 그대로 채워지지 않도록 작업을 대기 상태로 둔다.
+            return;
+        }
+
+        List<PlaceEnrichmentTask> tasks = transactionTemplate.execute(status -> claimTasks());
+        if (tasks == null || tasks.isEmpty()) {
+            return;
+        }
+
+        List<Long> taskIds = tasks.stream()
+            .map(PlaceEnrichmentTask::getTaskId)
+            .collect(Collectors.toList());
+        List<Long> itineraryIds = tasks.stream()
+            .map(PlaceEnrichmentTask::getItineraryId)
+            .collect(Collectors.toList());
+
+        try {
+            List<String> keywords = new ArrayList<>();
+            for (Itinerary it : itineraryRepository.findAllById(itineraryIds)) {
+                keywords.addAll(it.getPlaceKeywords());
+            }
+
+            // batch 전체에서 중복되는 장소는 한 번만 조회 (트랜잭션 밖)
+            ResolvedPlaces resolvedPlaces = itineraryGeocoder.resolveKeywords(keywords, geocodingExecutor);
+            transactionTemplate.executeWithoutResult(status ->
+                applyPlaceInfo(taskIds, resolvedPlaces)
+            );
+            log.info("[PlaceEnrichmentWorker] processed tasks: {}, distinct places: {}, failed places: {}",
+                taskIds.size(), resolvedPlaces.size(), resolvedPlaces.getDegradedCount());
+        } catch (RuntimeException e) {
+            // 가져간 작업은 lease 가 끝나면 다시 대기 작업으로 조회된다.
+            log.warn("[PlaceEnrichmentWorker] enrichment failed tasks: {}, message: {}",
+                taskIds.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 완료 작업을 삭제하는 메소드 (실패 작업은 확인을 위해 남겨 둔다)
+     */
+    @Scheduled(fixedDelayString = "${itinerary.place-enrichment.purge-interval-ms:3600000}")
+    public void purgeCompletedTasks() {
+        Integer purged = transactionTemplate.execute(status ->
+            taskRepository.deleteCompletedBefore(
+                PlaceEnrichmentStatus.DONE, LocalDateTime.now().minus(doneRetention))
+        );
+        if (purged != null && purged > 0) {
+            log.info("[PlaceEnrichmentWorker] purged completed tasks: {}", purged);
+        }
+    }
+
+    /**
+     * 실행 시각이 된 대기 작업을 잠그고 lease 를 걸어 가져가는 메소드 (트랜잭션 안에서 호출)
+     *
+     * @return claimedTasks
+     */
+    private List<PlaceEnrichmentTask> claimTasks() {
+        List<PlaceEnrichmentTask> tasks = taskRepository.findClaimableTasks(
+            PlaceEnrichmentStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, batchSize));
+        tasks.forEach(task -> task.claim(claimLease));
+        return tasks;
+    }
+
+    /**
+     * 변환된 위치 정보를 itinerary 에 채우고 작업을 완료 처리 (트랜잭션 안에서 호출).
+     * 장소 변환에 실패한 작업은 해당 작업만 재시도를 예약한다.
+     *
+     * @param taskIds
+     * @param resolvedPlaces
+     */
+    private void applyPlaceInfo(List<Long> taskIds, ResolvedPlaces resolvedPlaces) {
+        for (PlaceEnrichmentTask task : taskRepository.findAllById(taskIds)) {
+            Optional<Itinerary> itinerary = itineraryRepository.findById(task.getItineraryId())
+                .filter(it -> !it.isDeleted());
+            if (itinerary.isEmpty()) {
+                task.complete();
+                continue;
+            }
+
+            Itinerary it = itinerary.get();
+            List<String> unresolvedKeywords = it.getPlaceKeywords().stream()
+                .filter(keyword -> !resolvedPlaces.isResolved(keyword))
+                .collect(Collectors.toList());
+            if (!unresolvedKeywords.isEmpty()) {
+                task.retryLater("장소 변환 실패 : " + unresolvedKeywords, maxAttempts, retryBackoff);
+                continue;
+            }
+
+            it.enrichPlaceInfo(resolvedPlaces);
+            eventPublisher.publishEvent(new TripChangedEvent(it.getTrip().getTripId()));
+            task.complete();
+        }
+    }
+}
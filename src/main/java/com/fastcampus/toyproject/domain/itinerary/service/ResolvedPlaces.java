@@ -0,0 +1,97 @@
+package com.fastcampus.toyproject.domain.itinerary.service;
+
+import com.fastcampus.toyproject.common.util.api.dto.Document;
+import com.fastcampus.toyproject.common.util.api.resolver.LocationResolver;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 한 요청에 포함된 장소 keyword 들의 위치 정보 변환 결과.
+ * 미리 변환해 둔 결과만 반환하는 LocationResolver 로, 트랜잭션 안에서는 원격 호출이 일어나지 않는다.
+ * deadline 안에 변환하지 못했거나 변환에 실패한 keyword 는 degraded 로 기록된다.
+ */
+public class ResolvedPlaces implements LocationResolver {
+
+    private final Map<String, Optional<Document>> placeByKeyword;
+    private final Set<String> degradedKeywords;
+    private final boolean pending;
+
+    public ResolvedPlaces(
+        Map<String, Optional<Document>> placeByKeyword, Set<String> degradedKeywords
+    ) {
+        this(placeByKeyword, degradedKeywords, false);
+    }
+
+    private ResolvedPlaces(
+        Map<String, Optional<Document>> placeByKeyword, Set<String> degradedKeywords,
+        boolean pending
+    ) {
+        this.placeByKeyword = Collections.unmodifiableMap(placeByKeyword);
+        this.degradedKeywords = Collections.unmodifiableSet(degradedKeywords);
+        this.pending = pending;
+    }
+
+    /**
+     * 아직 변환하지 않은 상태 (비동기 변환 대기). 모든 keyword 를 그대로 반환한다.
+     *
+     * @return resolvedPlaces
+     */
+    public static ResolvedPlaces pending() {
+        return new ResolvedPlaces(Collections.emptyMap(), Collections.emptySet(), true);
+    }
+
+    /**
+     * 변환해 둔 keyword 의 장소 반환. 변환되지 않은 keyword 는 empty (keyword 그대로 사용)
+     *
+     * @param keyword
+     * @return place
+     */
+    @Override
+    public Optional<Document> resolve(String keyword) {
+        if (keyword == null) {
+            return Optional.empty();
+        }
+        return placeByKeyword.getOrDefault(
+            LocationResolver.normalizeKeyword(keyword), Optional.empty()
+        );
+    }
+
+    /**
+     * deadline 안에 변환하지 못해 keyword 그대로 사용되는 장소인지 확인
+     *
+     * @param keyword
+     * @return degraded
+     */
+    public boolean isDegraded(String keyword) {
+        return keyword != null
+            && degradedKeywords.contains(LocationResolver.normalizeKeyword(keyword));
+    }
+
+    /**
+     * 이번 변환에서 조회가 끝난 keyword 인지 확인 (검색 결과가 없는 경우 포함, degraded 나 조회하지 않은 keyword 는 제외)
+     *
+     * @param keyword
+     * @return resolved
+     */
+    public boolean isResolved(String keyword) {
+        if (keyword == null) {
+            return true;
+        }
+        String key = LocationResolver.normalizeKeyword(keyword);
+        return placeByKeyword.containsKey(key) && !degradedKeywords.contains(key);
+    }
+
+    public int getDegradedCount() {
+        return degradedKeywords.size();
+    }
+
+    public boolean isPending() {
+        return pending;
+    }
+
+    public int size() {
+        return placeByKeyword.size();
+    }
+}
@@ -0,0 +1,14 @@
+package com.fastcampus.toyproject.domain.itinerary.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum PlaceEnrichmentStatus {
+    PENDING("대기"),
+    DONE("완료"),
+    FAILED("실패");
+    private final String value;
+
+}
@@ -4,6 +4,7 @@ import com.fastcampus.toyproject.domain.trip.entity.Trip;
 import com.fastcampus.toyproject.domain.user.entity.User;
 import javax.persistence.Entity;
 import javax.persistence.EntityListeners;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
@@ -33,7 +34,8 @@ public class LikeTrip {
     @Comment("사용자 FK")
     private User user;
 
-    @OneToOne
+    // 좋아요 목록의 trip 들은 Trip 의 @BatchSize 로 IN (...) 으로 묶어서 조회
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "tripId")
     @Comment("여행 FK")
     private Trip trip;
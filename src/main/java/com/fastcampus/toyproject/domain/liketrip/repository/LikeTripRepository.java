@@ -1,6 +1,7 @@
 package com.fastcampus.toyproject.domain.liketrip.repository;
 
 import com.fastcampus.toyproject.domain.liketrip.entity.LikeTrip;
+import com.fastcampus.toyproject.domain.trip.dto.TripResponse;
 import com.fastcampus.toyproject.domain.trip.entity.Trip;
 import java.util.List;
 import java.util.Optional;
@@ -14,4 +15,10 @@ public interface LikeTripRepository extends JpaRepository<LikeTrip, Long> {
     Optional<LikeTrip> findByUserUserIdAndTripTripId(Long userId, Long tripId);
     @Query("SELECT t FROM LikeTrip t WHERE t.user.userId = :userId")
     Optional<List<LikeTrip>> findAllByUserId(@Param("userId")Long userId);
+
+    /**
+     * user 가 좋아요 한 trip 을 TripResponse 로 바로 조회 (entity 를 만들지 않음)
+     */
+    @Query("SELECT new com.fastcampus.toyproject.domain.trip.dto.TripResponse(t.tripId, t.user.userId, t.tripName, t.startDate, t.endDate, t.isDomestic) FROM LikeTrip l JOIN l.trip t WHERE l.user.userId = :userId")
+    List<TripResponse> findTripResponsesByUserId(@Param("userId") Long userId);
 }
@@ -1,7 +1,6 @@
 package com.fastcampus.toyproject.domain.liketrip.service;
 
 import static com.fastcampus.toyproject.domain.trip.exception.TripExceptionCode.NO_SUCH_TRIP;
-import static com.fastcampus.toyproject.domain.user.exception.UserExceptionCode.NO_LIKE_TRIP;
 import static java.util.Arrays.stream;
 
 import com.fastcampus.toyproject.domain.liketrip.dto.LikeTripRequest;
@@ -15,14 +14,12 @@ import com.fastcampus.toyproject.domain.trip.exception.TripExceptionCode;
 import com.fastcampus.toyproject.domain.trip.repository.TripRepository;
 import com.fastcampus.toyproject.domain.trip.service.TripService;
 import com.fastcampus.toyproject.domain.user.entity.User;
-import com.fastcampus.toyproject.domain.user.exception.UserException;
 import com.fastcampus.toyproject.domain.user.repository.UserRepository;
 import com.fastcampus.toyproject.domain.user.service.UserService;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -64,11 +61,6 @@ public class LikeTripService {
     }
 
     public List<TripResponse> getLikeTripByUserId(Long userId) {
-        return likeTripRepository
-            .findAllByUserId(userId)
-            .orElseThrow(()-> new UserException(NO_LIKE_TRIP))
-            .stream().map(likeTrip -> likeTrip.getTrip())
-            .map(TripResponse::fromEntity)
-            .collect(Collectors.toList());
+        return likeTripRepository.findTripResponsesByUserId(userId);
     }
 }
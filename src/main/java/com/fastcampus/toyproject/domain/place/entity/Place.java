@@ -0,0 +1,77 @@
+package com.fastcampus.toyproject.domain.place.entity;
+
+import com.fastcampus.toyproject.common.BaseTimeEntity;
+import com.fastcampus.toyproject.common.util.api.dto.Document;
+import javax.persistence.Column;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+/**
+ * kakao 로 검색한 장소 (정규화된 keyword 당 1건)
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_place_keyword", columnNames = "keyword"))
+public class Place {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Comment("장소 ID")
+    private Long placeId;
+
+    @Column(nullable = false)
+    @Comment("정규화된 검색 keyword")
+    private String keyword;
+
+    @Column(nullable = false)
+    @Comment("장소 이름")
+    private String placeName;
+
+    @Comment("주소")
+    private String addressName;
+
+    @Comment("경도 (x)")
+    private Double longitude;
+
+    @Comment("위도 (y)")
+    private Double latitude;
+
+    @Embedded
+    private BaseTimeEntity baseTimeEntity;
+
+    public static Place of(String keyword, Document document) {
+        return Place.builder()
+            .keyword(keyword)
+            .placeName(document.getPlaceName())
+            .addressName(document.getAddressName())
+            .longitude(document.getLongitude())
+            .latitude(document.getLatitude())
+            .baseTimeEntity(new BaseTimeEntity())
+            .build();
+    }
+
+    public Document toDocument() {
+        return new Document(
+            addressName,
+            longitude == null ? 0 : longitude,
+            latitude == null ? 0 : latitude,
+            null, placeName, null, 0
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.fastcampus.toyproject.domain.place.repository;
+
+import com.fastcampus.toyproject.domain.place.entity.Place;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PlaceRepository extends JpaRepository<Place, Long> {
+
+    Optional<Place> findByKeyword(String keyword);
+}
@@ -0,0 +1,31 @@
+package com.fastcampus.toyproject.domain.place.service;
+
+import com.fastcampus.toyproject.common.util.api.dto.Document;
+import com.fastcampus.toyproject.common.util.api.resolver.LocationResolver;
+import java.util.Optional;
+
+/**
+ * 원격 resolver 앞에서 Place 사전을 먼저 조회하고, 새로 찾은 장소는 사전에 저장하는 decorator
+ */
+public class PersistentLocationResolver implements LocationResolver {
+
+    private final LocationResolver delegate;
+    private final PlaceDictionary placeDictionary;
+
+    public PersistentLocationResolver(LocationResolver delegate, PlaceDictionary placeDictionary) {
+        this.delegate = delegate;
+        this.placeDictionary = placeDictionary;
+    }
+
+    @Override
+    public Optional<Document> resolve(String keyword) {
+        Optional<Document> place = placeDictionary.find(keyword);
+        if (place.isPresent()) {
+            return place;
+        }
+
+        place = delegate.resolve(keyword);
+        place.ifPresent(document -> placeDictionary.save(keyword, document));
+        return place;
+    }
+}
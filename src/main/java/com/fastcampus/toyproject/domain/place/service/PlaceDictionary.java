@@ -0,0 +1,79 @@
+package com.fastcampus.toyproject.domain.place.service;
+
+import com.fastcampus.toyproject.common.util.api.dto.Document;
+import com.fastcampus.toyproject.common.util.api.resolver.LocationResolver;
+import com.fastcampus.toyproject.domain.place.entity.Place;
+import com.fastcampus.toyproject.domain.place.repository.PlaceRepository;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Place 테이블을 메모리에 올려 두고 조회하는 장소 사전.
+ * 애플리케이션 시작 시 전체를 읽어 두므로 재시작 후에도 kakao 호출 없이 응답할 수 있다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlaceDictionary {
+
+    private final PlaceRepository placeRepository;
+    private final Map<String, Document> places = new ConcurrentHashMap<>();
+
+    /**
+     * 시작 시 Place 테이블 전체를 메모리에 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long startTime = System.currentTimeMillis();
+        for (Place place : placeRepository.findAll()) {
+            places.put(place.getKeyword(), place.toDocument());
+        }
+        log.info("[PlaceDictionary] warm-up places: {}, time: {}",
+            places.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 메모리에서 keyword 의 장소 조회
+     *
+     * @param keyword
+     * @return place
+     */
+    public Optional<Document> find(String keyword) {
+        return Optional.ofNullable(places.get(LocationResolver.normalizeKeyword(keyword)));
+    }
+
+    /**
+     * 새로 검색한 장소를 Place 테이블에 저장한 뒤 메모리에 반영.
+     * 저장에 실패해도 장소 변환은 실패시키지 않고, 메모리에 올리지 않아 다음 조회에서 다시 저장을 시도한다.
+     *
+     * @param keyword
+     * @param document
+     */
+    public void save(String keyword, Document document) {
+        String normalizedKeyword = LocationResolver.normalizeKeyword(keyword);
+        if (places.containsKey(normalizedKeyword)) {
+            return;
+        }
+        try {
+            placeRepository.save(Place.of(normalizedKeyword, document));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 저장한 경우
+            log.debug("이미 저장된 장소 keyword : {}", normalizedKeyword);
+        } catch (RuntimeException e) {
+            log.warn("장소 저장 실패 keyword : {}, message : {}", normalizedKeyword, e.getMessage());
+            return;
+        }
+        places.putIfAbsent(normalizedKeyword, document);
+    }
+
+    public int size() {
+        return places.size();
+    }
+}
@@ -8,4 +8,6 @@ public interface ReplyRepository extends JpaRepository<Reply, Long> {
 
     List<Reply> findAllByTripTripId(Long tripId);
 
+    List<Reply> findAllByTripTripIdAndBaseTimeEntity_DeletedAtIsNull(Long tripId);
+
 }
@@ -11,11 +11,13 @@ import com.fastcampus.toyproject.domain.reply.exception.ReplyException;
 import com.fastcampus.toyproject.domain.reply.exception.ReplyExceptionCode;
 import com.fastcampus.toyproject.domain.reply.repository.ReplyRepository;
 import com.fastcampus.toyproject.domain.trip.entity.Trip;
+import com.fastcampus.toyproject.domain.trip.event.TripChangedEvent;
 import com.fastcampus.toyproject.domain.trip.exception.TripException;
 import com.fastcampus.toyproject.domain.trip.service.TripService;
 import com.fastcampus.toyproject.domain.user.entity.User;
 import com.fastcampus.toyproject.domain.user.service.UserService;
 import java.time.LocalDateTime;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
@@ -28,12 +30,14 @@ public class ReplyService {
     private final ReplyRepository replyRepository;
     private final TripService tripService;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ReplyService(ReplyRepository replyRepository, TripService tripService,
-        UserService userService) {
+        UserService userService, ApplicationEventPublisher eventPublisher) {
         this.replyRepository = replyRepository;
         this.tripService = tripService;
         this.userService = userService;
+        this.eventPublisher = eventPublisher;
     }
 
     public static ReplyResponseDTO fromEntity(Reply reply) {
@@ -62,12 +66,14 @@ public class ReplyService {
             .build();
 
         Reply savedReply = replyRepository.save(newReply);
+        eventPublisher.publishEvent(new TripChangedEvent(tripId));
         return ReplyResponseDTO.fromEntity(savedReply);
     }
 
     @Transactional(readOnly = true)
     public List<ReplyResponseDTO> getAllRepliesByTripId(Long tripId) {
-        List<Reply> replies = replyRepository.findAllByTripTripId(tripId);
+        List<Reply> replies = replyRepository
+            .findAllByTripTripIdAndBaseTimeEntity_DeletedAtIsNull(tripId);
         return replies.stream()
             .map(ReplyResponseDTO::fromEntity)
             .collect(Collectors.toList());
@@ -83,6 +89,7 @@ public class ReplyService {
 
         reply.setContent(content);
         Reply updatedReply = replyRepository.save(reply);
+        eventPublisher.publishEvent(new TripChangedEvent(reply.getTrip().getTripId()));
         return ReplyResponseDTO.fromEntity(updatedReply);
     }
 
@@ -97,6 +104,7 @@ public class ReplyService {
         if (reply.getBaseTimeEntity().getDeletedAt() == null) {
             reply.getBaseTimeEntity().delete(LocalDateTime.now());
             replyRepository.save(reply);
+            eventPublisher.publishEvent(new TripChangedEvent(reply.getTrip().getTripId()));
         }
     }
 
@@ -2,8 +2,10 @@ package com.fastcampus.toyproject.domain.trip.controller;
 
 import com.fastcampus.toyproject.common.dto.ResponseDTO;
 import com.fastcampus.toyproject.common.util.DateUtil;
+import com.fastcampus.toyproject.common.util.ETagUtil;
 import com.fastcampus.toyproject.config.security.jwt.UserPrincipal;
 import com.fastcampus.toyproject.domain.trip.dto.TripDetailResponse;
+import com.fastcampus.toyproject.domain.trip.dto.TripPageResponse;
 import com.fastcampus.toyproject.domain.trip.dto.TripRequest;
 import com.fastcampus.toyproject.domain.trip.dto.TripResponse;
 import com.fastcampus.toyproject.domain.trip.service.TripService;
@@ -16,6 +18,7 @@ import lombok.RequiredArgsConstructor;
 import org.hibernate.validator.constraints.Length;
 import org.hibernate.validator.constraints.Range;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -26,6 +29,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 /**
  * 여행과 관련된 Trip Rest Controller trip 삽입, 수정, 삭제, 전체 조회, 상세 조회 기능
@@ -40,21 +44,42 @@ public class TripController {
     private final TripService tripService;
 
     @GetMapping("/all")
-    public ResponseDTO<List<TripResponse>> getAllTrips(
+    public ResponseDTO<TripPageResponse> getAllTrips(
+        @RequestParam(value = "cursor", required = false) final String cursor,
+        @RequestParam(value = "size", defaultValue = "20")
+        @Range(min = 1, max = 100, message = "size 는 1 ~ 100 사이어야 합니다.")
+        final int size
     ) {
         return ResponseDTO.ok("모든 여행 조회 완료",
-            tripService.getAllTrips()
+            tripService.getAllTrips(cursor, size)
         );
     }
 
 
+    /**
+     * If-None-Match 가 현재 버전과 같으면 상세 조회 응답을 만들지 않고 304 반환
+     */
     @GetMapping("/{tripId}")
     public ResponseDTO<TripDetailResponse> getTripDetail(
-        @PathVariable final Long tripId
+        @PathVariable final Long tripId,
+        final ServletWebRequest webRequest
     ) {
-        return ResponseDTO.ok("상세 여행 조회 완료",
-            tripService.getTripDetail(tripId)
-        );
+        webRequest.getResponse()
+            .setHeader(HttpHeaders.CACHE_CONTROL, ETagUtil.REVALIDATE_CACHE_CONTROL);
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            Optional<String> version = tripService.getTripDetailVersion(tripId);
+            if (version.isPresent() && webRequest.checkNotModified(version.get())) {
+                return null;
+            }
+        }
+
+        TripDetailResponse tripDetail = tripService.getTripDetail(tripId);
+        // 캐시된 응답은 현재 버전보다 오래되었을 수 있으므로 실제로 내보내는 응답의 버전을 ETag 로 사용
+        if (tripDetail.getVersion() != null) {
+            webRequest.getResponse()
+                .setHeader(HttpHeaders.ETAG, ETagUtil.quote(tripDetail.getVersion()));
+        }
+        return ResponseDTO.ok("상세 여행 조회 완료", tripDetail);
     }
 
     @GetMapping("/search")
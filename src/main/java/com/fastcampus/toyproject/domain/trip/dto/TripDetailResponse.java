@@ -4,6 +4,7 @@ import com.fastcampus.toyproject.domain.itinerary.dto.ItineraryResponse;
 import com.fastcampus.toyproject.domain.itinerary.dto.ItineraryResponseFactory;
 import com.fastcampus.toyproject.domain.reply.dto.ReplyResponseDTO;
 import com.fastcampus.toyproject.domain.trip.entity.Trip;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -33,7 +34,15 @@ public class TripDetailResponse {
     private List<ItineraryResponse> itineraryList;
     private List<ReplyResponseDTO> replyList;
 
+    // 응답을 만들 때의 버전 (ETag). 응답 body 에는 포함하지 않음
+    @JsonIgnore
+    private String version;
+
     public static TripDetailResponse fromEntity(Trip trip) {
+        return fromEntity(trip, null);
+    }
+
+    public static TripDetailResponse fromEntity(Trip trip, String version) {
         return TripDetailResponse.builder()
             .tripId(trip.getTripId())
             .userId(trip.getUser().getUserId())
@@ -51,10 +60,10 @@ public class TripDetailResponse {
             .replyList(Optional.ofNullable(trip.getReplyList())
                 .orElse(new ArrayList<>())
                 .stream()
-                .filter(reply -> reply.getBaseTimeEntity().getDeletedAt() == null)
                 .map(ReplyResponseDTO::fromEntity)
                 .collect(Collectors.toList())
             )
+            .version(version)
             .build();
     }
 }
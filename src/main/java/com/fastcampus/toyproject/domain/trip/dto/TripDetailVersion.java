@@ -0,0 +1,32 @@
+package com.fastcampus.toyproject.domain.trip.dto;
+
+import com.fastcampus.toyproject.common.util.ETagUtil;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * trip 상세 조회 응답의 버전 정보.
+ * trip 자체의 수정/삭제일시, 좋아요 수와 여정/댓글의 개수, 마지막 수정일시로 구성된다.
+ * (여정/댓글은 삭제된 것도 포함하여 soft delete 도 수정일시로 반영되도록 함)
+ */
+@Getter
+@AllArgsConstructor
+public class TripDetailVersion {
+
+    private Long tripId;
+    private Integer likesCount;
+    private LocalDateTime updatedAt;
+    private LocalDateTime deletedAt;
+    private Long itineraryCount;
+    private LocalDateTime itineraryUpdatedAt;
+    private Long replyCount;
+    private LocalDateTime replyUpdatedAt;
+
+    public String toETag() {
+        return ETagUtil.fromParts(
+            tripId, likesCount, updatedAt, deletedAt,
+            itineraryCount, itineraryUpdatedAt, replyCount, replyUpdatedAt
+        );
+    }
+}
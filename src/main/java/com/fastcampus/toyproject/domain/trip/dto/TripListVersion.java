@@ -0,0 +1,22 @@
+package com.fastcampus.toyproject.domain.trip.dto;
+
+import com.fastcampus.toyproject.common.util.ETagUtil;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 trip 목록 응답의 버전 정보 (삭제된 trip 포함 개수와 마지막 수정일시)
+ */
+@Getter
+@AllArgsConstructor
+public class TripListVersion {
+
+    private Long userId;
+    private Long tripCount;
+    private LocalDateTime updatedAt;
+
+    public String toETag() {
+        return ETagUtil.fromParts(userId, tripCount, updatedAt);
+    }
+}
@@ -0,0 +1,79 @@
+package com.fastcampus.toyproject.domain.trip.dto;
+
+import static com.fastcampus.toyproject.domain.trip.exception.TripExceptionCode.INVALID_TRIP_CURSOR;
+
+import com.fastcampus.toyproject.domain.trip.exception.TripException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * trip 전체 조회 (keyset 페이지) 시 사용하는 response.
+ * nextCursor 는 마지막 trip 의 위치를 담은 불투명한 문자열로, 다음 페이지 요청에 그대로 전달한다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TripPageResponse {
+
+    private List<TripResponse> trips;
+    private String nextCursor;
+    private Boolean hasNext;
+
+    /**
+     * size + 1 개까지 조회한 결과로 페이지 생성. size 를 넘는 결과가 있으면 다음 페이지가 있다.
+     *
+     * @param trips
+     * @param size
+     * @return tripPage
+     */
+    public static TripPageResponse of(List<TripResponse> trips, int size) {
+        boolean hasNext = trips.size() > size;
+        List<TripResponse> page = hasNext ? trips.subList(0, size) : trips;
+        return TripPageResponse.builder()
+            .trips(page)
+            .nextCursor(hasNext ? encodeCursor(page.get(page.size() - 1).getTripId()) : null)
+            .hasNext(hasNext)
+            .build();
+    }
+
+    /**
+     * 마지막으로 조회한 tripId 를 cursor 문자열로 변환
+     *
+     * @param tripId
+     * @return cursor
+     */
+    public static String encodeCursor(Long tripId) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(String.valueOf(tripId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * cursor 문자열을 tripId 로 변환. cursor 가 없으면 처음부터 조회 (0)
+     *
+     * @param cursor
+     * @return tripId
+     */
+    public static Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String decoded = new String(
+                Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8
+            );
+            long tripId = Long.parseLong(decoded);
+            if (tripId < 0) {
+                throw new TripException(INVALID_TRIP_CURSOR);
+            }
+            return tripId;
+        } catch (IllegalArgumentException e) {
+            throw new TripException(INVALID_TRIP_CURSOR);
+        }
+    }
+}
@@ -29,6 +29,15 @@ public class TripResponse {
     private Boolean isDomestic;
     private String tripPeriod;
 
+    /**
+     * projection 쿼리 (SELECT new ...) 에서 사용하는 생성자. 여행 기간은 시작/종료일로 계산
+     */
+    public TripResponse(Long tripId, Long userId, String tripName,
+        LocalDate startDate, LocalDate endDate, Boolean isDomestic) {
+        this(tripId, userId, tripName, startDate, endDate, isDomestic,
+            DateUtil.getDaysBetweenDate(startDate, endDate));
+    }
+
     public static TripResponse fromEntity(Trip trip) {
         return TripResponse.builder()
             .tripId(trip.getTripId())
@@ -19,20 +19,34 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
 import javax.persistence.OneToMany;
+import javax.persistence.OrderBy;
 import javax.persistence.PrePersist;
+import javax.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Comment;
+import org.hibernate.annotations.Where;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
+@NamedEntityGraph(name = "Trip.withItineraries",
+    attributeNodes = @NamedAttributeNode("itineraryList"))
+@Table(indexes = {
+    @Index(name = "idx_trip_user_deleted", columnList = "userId, deletedAt"),
+    @Index(name = "idx_trip_deleted", columnList = "deletedAt, tripId")
+})
+@BatchSize(size = 100)
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @NoArgsConstructor
@@ -40,14 +54,22 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @SuperBuilder
 public class Trip {
 
+    // 삭제되지 않은 여정/댓글만 DB 에서 조회 (여정은 순서대로 정렬)
+    // 여정이 필요한 경우에만 Trip.withItineraries entity graph 로 함께 조회한다.
+    // 여러 trip 의 컬렉션을 초기화할 때는 IN (...) 으로 묶어서 조회 (N+1 방지)
     @OneToMany(mappedBy = "trip",
         cascade = {CascadeType.ALL},
-        fetch = FetchType.EAGER,
+        fetch = FetchType.LAZY,
         orphanRemoval = true)
+    @Where(clause = "deleted_at IS NULL")
+    @OrderBy("itineraryOrder ASC")
+    @BatchSize(size = 100)
     private List<Itinerary> itineraryList = new ArrayList<>();
 
 
     @OneToMany(mappedBy = "trip", fetch = FetchType.LAZY)
+    @Where(clause = "deleted_at IS NULL")
+    @BatchSize(size = 100)
     private List<Reply> replyList;
 
 
@@ -0,0 +1,14 @@
+package com.fastcampus.toyproject.domain.trip.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * trip 상세 조회 결과가 바뀌는 변경 (여행/여정/댓글/좋아요) 이 일어났음을 알리는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class TripChangedEvent {
+
+    private final Long tripId;
+}
@@ -1,5 +1,6 @@
 package com.fastcampus.toyproject.domain.trip.exception;
 
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.FORBIDDEN;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
@@ -17,7 +18,8 @@ public enum TripExceptionCode implements ExceptionCode {
     NO_SUCH_TRIP(NOT_FOUND, "NO_SUCH_TRIP", "해당하는 여행 정보가 없습니다."),
     TRIP_ALREADY_DELETED(FORBIDDEN, "TRIP_ALREADY_DELETED", "이미 삭제된 여행 정보입니다."),
     NOT_MATCH_BETWEEN_USER_AND_TRIP(FORBIDDEN, "NOT_MATCH_BETWEEN_USER_AND_TRIP", "로그인 유저와 유저의 여행 정보가 일치하지 않습니다."),
-    TRIP_SAVE_FAILED(INTERNAL_SERVER_ERROR, "TRIP_SAVE_FAILED", "여행 저장에 실패하였습니다.")
+    TRIP_SAVE_FAILED(INTERNAL_SERVER_ERROR, "TRIP_SAVE_FAILED", "여행 저장에 실패하였습니다."),
+    INVALID_TRIP_CURSOR(BAD_REQUEST, "INVALID_TRIP_CURSOR", "잘못된 여행 목록 cursor 입니다.")
 
     ;
 
@@ -1,8 +1,13 @@
 package com.fastcampus.toyproject.domain.trip.repository;
 
+import com.fastcampus.toyproject.domain.trip.dto.TripDetailVersion;
+import com.fastcampus.toyproject.domain.trip.dto.TripListVersion;
+import com.fastcampus.toyproject.domain.trip.dto.TripResponse;
 import com.fastcampus.toyproject.domain.trip.entity.Trip;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,9 +21,50 @@ public interface TripRepository extends JpaRepository<Trip, Long> {
 
     Optional<List<Trip>> findByTripNameContains(String keyword);
 
+    /**
+     * 삭제되지 않은 trip 중 이름에 keyword 가 포함된 trip 을 TripResponse 로 바로 조회 (entity 를 만들지 않음)
+     */
+    @Query("SELECT new com.fastcampus.toyproject.domain.trip.dto.TripResponse(t.tripId, t.user.userId, t.tripName, t.startDate, t.endDate, t.isDomestic) FROM Trip t WHERE t.tripName LIKE %:keyword% AND t.baseTimeEntity.deletedAt IS NULL ORDER BY t.tripId")
+    List<TripResponse> findTripResponsesByKeyword(@Param("keyword") String keyword);
+
     @Query("SELECT t FROM Trip t WHERE t.user.userId = :userId")
     Optional<List<Trip>> findAllByUser(@Param("userId") Long userId);
 
+    /**
+     * user 의 삭제되지 않은 trip 을 TripResponse 로 바로 조회 (entity 를 만들지 않음)
+     */
+    @Query("SELECT new com.fastcampus.toyproject.domain.trip.dto.TripResponse(t.tripId, t.user.userId, t.tripName, t.startDate, t.endDate, t.isDomestic) FROM Trip t WHERE t.user.userId = :userId AND t.baseTimeEntity.deletedAt IS NULL ORDER BY t.tripId")
+    List<TripResponse> findTripResponsesByUserId(@Param("userId") Long userId);
+
+    /**
+     * 삭제되지 않은 trip 을 cursor(tripId) 다음부터 tripId 순으로 TripResponse 로 조회 (keyset 페이지)
+     */
+    @Query("SELECT new com.fastcampus.toyproject.domain.trip.dto.TripResponse(t.tripId, t.user.userId, t.tripName, t.startDate, t.endDate, t.isDomestic) FROM Trip t WHERE t.baseTimeEntity.deletedAt IS NULL AND t.tripId > :cursor ORDER BY t.tripId ASC")
+    List<TripResponse> findTripResponsesAfterCursor(@Param("cursor") Long cursor, Pageable pageable);
+
+    /**
+     * 여정까지 함께 조회 (상세 조회, 여정 편집, 여행 삭제용)
+     */
+    @EntityGraph("Trip.withItineraries")
+    @Query("SELECT t FROM Trip t WHERE t.tripId = :tripId")
+    Optional<Trip> findWithItinerariesByTripId(@Param("tripId") Long tripId);
+
+    @EntityGraph("Trip.withItineraries")
     @Query("SELECT t FROM Trip t WHERE t.tripId = :tripId AND t.user.userId = :userId")
     Optional<Trip> findByTripIdAndUserId(@Param("tripId") Long tripId, @Param("userId") Long userId);
+
+    /**
+     * 상세 조회 응답의 버전 정보만 조회 (ETag 비교용, 여정/댓글 entity 를 만들지 않음)
+     */
+    @Query("SELECT new com.fastcampus.toyproject.domain.trip.dto.TripDetailVersion(t.tripId, t.likesCount, t.baseTimeEntity.updatedAt, t.baseTimeEntity.deletedAt, "
+        + "(SELECT COUNT(i) FROM Itinerary i WHERE i.trip = t), (SELECT MAX(i.baseTimeEntity.updatedAt) FROM Itinerary i WHERE i.trip = t), "
+        + "(SELECT COUNT(r) FROM Reply r WHERE r.trip = t), (SELECT MAX(r.baseTimeEntity.updatedAt) FROM Reply r WHERE r.trip = t)) "
+        + "FROM Trip t WHERE t.tripId = :tripId")
+    Optional<TripDetailVersion> findDetailVersionByTripId(@Param("tripId") Long tripId);
+
+    /**
+     * user 의 trip 목록 응답의 버전 정보만 조회 (ETag 비교용). trip 이 하나도 없으면 empty
+     */
+    @Query("SELECT new com.fastcampus.toyproject.domain.trip.dto.TripListVersion(t.user.userId, COUNT(t), MAX(t.baseTimeEntity.updatedAt)) FROM Trip t WHERE t.user.userId = :userId GROUP BY t.user.userId")
+    Optional<TripListVersion> findListVersionByUserId(@Param("userId") Long userId);
 }
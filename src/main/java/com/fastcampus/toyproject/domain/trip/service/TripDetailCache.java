@@ -0,0 +1,185 @@
+package com.fastcampus.toyproject.domain.trip.service;
+
+import com.fastcampus.toyproject.common.util.cache.CacheStats;
+import com.fastcampus.toyproject.common.util.cache.ExpiringLruCache;
+import com.fastcampus.toyproject.common.util.cache.SingleFlight;
+import com.fastcampus.toyproject.domain.trip.dto.TripDetailResponse;
+import com.fastcampus.toyproject.domain.trip.event.TripChangedEvent;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 조립된 trip 상세 조회 결과 캐시 (tripId 단위).
+ * 여행/여정/댓글/좋아요가 바뀌면 TripChangedEvent 로 트랜잭션 커밋 후에 해당 trip 만 무효화한다.
+ * 조회하는 동안 무효화가 일어났으면 읽은 값이 오래된 것일 수 있으므로 캐시에 저장하지 않고,
+ * 무효화 이후의 요청이 그 조회에 합류하지 않도록 진행 중인 조회도 분리한다.
+ * 인기 trip 에 요청이 몰려도 DB 를 보호할 수 있도록,
+ * 같은 tripId 의 동시 미스는 한 번의 조회로 합치고 (SingleFlight),
+ * refreshAfter 가 지난 항목은 기존 값을 바로 반환하면서 refreshExecutor 에서 한 번만 다시 조회한다.
+ */
+@Slf4j
+public class TripDetailCache {
+
+    private final ExpiringLruCache<Long, Cached> cache;
+    private final SingleFlight<Long, TripDetailResponse> singleFlight = new SingleFlight<>();
+    private final Set<Long> refreshing = ConcurrentHashMap.newKeySet();
+    private final long refreshAfterNanos;
+    private final Executor refreshExecutor;
+    private final LongSupplier ticker;
+
+    private final Object lock = new Object();
+    private long invalidationCount;
+    private final AtomicLong refreshCount = new AtomicLong();
+
+    public TripDetailCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, ttl, Runnable::run);
+    }
+
+    public TripDetailCache(int maxSize, Duration ttl, Duration refreshAfter, Executor refreshExecutor) {
+        this(maxSize, ttl, refreshAfter, refreshExecutor, System::nanoTime);
+    }
+
+    public TripDetailCache(
+        int maxSize,
+        Duration ttl,
+        Duration refreshAfter,
+        Executor refreshExecutor,
+        LongSupplier ticker
+    ) {
+        this.cache = new ExpiringLruCache<>(maxSize, ttl, ticker);
+        this.refreshAfterNanos = refreshAfter.toNanos();
+        this.refreshExecutor = refreshExecutor;
+        this.ticker = ticker;
+    }
+
+    /**
+     * 캐시된 상세 조회 결과 반환. 없으면 loader 로 조회 후 저장 (같은 trip 의 동시 조회는 한 번만 실행).
+     * refreshAfter 가 지난 값은 그대로 반환하고 백그라운드에서 갱신한다.
+     * loader 는 다른 스레드에서도 실행되므로 자체적으로 트랜잭션을 열어야 한다.
+     *
+     * @param tripId
+     * @param loader
+     * @return tripDetail
+     */
+    public TripDetailResponse get(Long tripId, Supplier<TripDetailResponse> loader) {
+        Cached cached = cache.get(tripId);
+        if (cached == null) {
+            return singleFlight.execute(tripId, () -> load(tripId, loader));
+        }
+        if (ticker.getAsLong() - cached.loadedAt >= refreshAfterNanos) {
+            refreshAsync(tripId, loader);
+        }
+        return cached.response;
+    }
+
+    /**
+     * 갱신 시점이 지나지 않은 캐시 항목의 버전 (ETag) 반환. 없거나 갱신이 필요하면 null
+     *
+     * @param tripId
+     * @return version
+     */
+    public String getFreshVersion(Long tripId) {
+        Cached cached = cache.peek(tripId);
+        if (cached == null || ticker.getAsLong() - cached.loadedAt >= refreshAfterNanos) {
+            return null;
+        }
+        return cached.response.getVersion();
+    }
+
+    private TripDetailResponse load(Long tripId, Supplier<TripDetailResponse> loader) {
+        long generation = getInvalidationCount();
+        TripDetailResponse loaded = loader.get();
+        synchronized (lock) {
+            if (generation == invalidationCount) {
+                cache.put(tripId, new Cached(loaded, ticker.getAsLong()));
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 같은 trip 의 갱신이 이미 진행 중이면 건너뛴다. 갱신에 실패하면 (ex. 다른 서버에서 삭제됨)
+     * 오래된 값을 계속 내보내지 않도록 항목을 제거하여 다음 요청이 직접 조회하게 한다.
+     */
+    private void refreshAsync(Long tripId, Supplier<TripDetailResponse> loader) {
+        if (!refreshing.add(tripId)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refreshCount.incrementAndGet();
+                    singleFlight.execute(tripId, () -> load(tripId, loader));
+                } catch (RuntimeException e) {
+                    log.warn("trip 상세 캐시 갱신 실패 tripId : {}, message : {}", tripId, e.getMessage());
+                    evict(tripId);
+                } finally {
+                    refreshing.remove(tripId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 갱신 작업이 밀려 있으면 이번에는 기존 값을 그대로 사용
+            refreshing.remove(tripId);
+        }
+    }
+
+    public void evict(Long tripId) {
+        synchronized (lock) {
+            invalidationCount++;
+            cache.invalidate(tripId);
+            singleFlight.forget(tripId);
+        }
+    }
+
+    /**
+     * 변경이 커밋된 뒤 해당 trip 캐시 무효화 (트랜잭션 밖에서 발행되면 바로 무효화)
+     *
+     * @param event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTripChanged(TripChangedEvent event) {
+        evict(event.getTripId());
+    }
+
+    public long getInvalidationCount() {
+        synchronized (lock) {
+            return invalidationCount;
+        }
+    }
+
+    public long getRefreshCount() {
+        return refreshCount.get();
+    }
+
+    public long getLoadCount() {
+        return singleFlight.getExecutionCount();
+    }
+
+    public long getCoalescedCount() {
+        return singleFlight.getCoalescedCount();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private static class Cached {
+
+        private final TripDetailResponse response;
+        private final long loadedAt;
+
+        private Cached(TripDetailResponse response, long loadedAt) {
+            this.response = response;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
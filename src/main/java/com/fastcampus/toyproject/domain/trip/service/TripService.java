@@ -7,23 +7,26 @@ import static com.fastcampus.toyproject.domain.trip.exception.TripExceptionCode.
 import static com.fastcampus.toyproject.domain.trip.exception.TripExceptionCode.TRIP_SAVE_FAILED;
 
 import com.fastcampus.toyproject.common.BaseTimeEntity;
-import com.fastcampus.toyproject.domain.itinerary.entity.Itinerary;
+import com.fastcampus.toyproject.common.util.ETagUtil;
 import com.fastcampus.toyproject.domain.trip.dto.TripDetailResponse;
+import com.fastcampus.toyproject.domain.trip.dto.TripDetailVersion;
+import com.fastcampus.toyproject.domain.trip.dto.TripListVersion;
+import com.fastcampus.toyproject.domain.trip.dto.TripPageResponse;
 import com.fastcampus.toyproject.domain.trip.dto.TripRequest;
 import com.fastcampus.toyproject.domain.trip.dto.TripResponse;
 import com.fastcampus.toyproject.domain.trip.entity.Trip;
+import com.fastcampus.toyproject.domain.trip.event.TripChangedEvent;
 import com.fastcampus.toyproject.domain.trip.exception.TripException;
 import com.fastcampus.toyproject.domain.trip.repository.TripRepository;
 import com.fastcampus.toyproject.domain.user.repository.UserRepository;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 @Service
 @RequiredArgsConstructor
@@ -31,9 +34,12 @@ public class TripService {
 
     private final TripRepository tripRepository;
     private final UserRepository userRepository;
+    private final TripDetailCache tripDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionOperations transactionOperations;
 
     /**
-     * trip 아이디를 통한 trip 객체 반환하는 메소드
+     * trip 아이디를 통한 trip 객체 반환하는 메소드 (여정은 조회하지 않음)
      *
      * @param tripId
      * @return trip
@@ -44,22 +50,33 @@ public class TripService {
             .findById(tripId)
             .orElseThrow(() -> new TripException(NO_SUCH_TRIP));
 
-        if (trip.getBaseTimeEntity().getDeletedAt() != null) {
-            throw new TripException(TRIP_ALREADY_DELETED);
-        }
+        validateNotDeleted(trip);
+        return trip;
+    }
 
-        List<Itinerary> list = trip.getItineraryList();
+    /**
+     * trip 아이디를 통해 여정까지 함께 조회한 trip 객체 반환하는 메소드 (상세 조회, 여정 편집용)
+     *
+     * @param tripId
+     * @return trip
+     */
+    public Trip getTripWithItineraries(Long tripId) {
 
-        for (int i = 0; i < list.size(); i++) {
-            if (list.get(i).isDeleted()) {
-                list.remove(i);
-                i--;
-            }
-        }
-        Collections.sort(list, Comparator.comparingInt(Itinerary::getItineraryOrder));
+        Trip trip = tripRepository
+            .findWithItinerariesByTripId(tripId)
+            .orElseThrow(() -> new TripException(NO_SUCH_TRIP));
+
+        // 여정은 삭제되지 않은 것만 순서대로 조회된다 (Trip.itineraryList 의 @Where, @OrderBy)
+        validateNotDeleted(trip);
         return trip;
     }
 
+    private static void validateNotDeleted(Trip trip) {
+        if (trip.getBaseTimeEntity().getDeletedAt() != null) {
+            throw new TripException(TRIP_ALREADY_DELETED);
+        }
+    }
+
     /**
      * user 아이디를 통한 trip 객체 리스트 반환하는 메소드
      *
@@ -67,15 +84,19 @@ public class TripService {
      * @return List<TripResponseDTO>
      */
     public Optional<List<TripResponse>> getTripByUserId(Long userId) {
-        Optional<List<Trip>> optionalTrips = tripRepository
-            .findAllByUser(userId);
+        return Optional.ofNullable(tripRepository.findTripResponsesByUserId(userId));
+    }
 
-        List<TripResponse> tripResponseList = new ArrayList<>();
-        for (Trip trip : optionalTrips.get()) {
-            if (trip.getBaseTimeEntity().getDeletedAt() != null) continue;
-            tripResponseList.add(TripResponse.fromEntity(trip));
-        }
-        return Optional.ofNullable(tripResponseList);
+    /**
+     * user 의 trip 목록 응답의 현재 버전 (ETag) 반환
+     *
+     * @param userId
+     * @return version
+     */
+    public String getTripListVersion(Long userId) {
+        return tripRepository.findListVersionByUserId(userId)
+            .map(TripListVersion::toETag)
+            .orElse(ETagUtil.fromParts(userId, 0L));
     }
 
     /**
@@ -104,30 +125,52 @@ public class TripService {
     }
 
     /**
-     * 삭제 되지 않은 trip 전부를 반환하는 메소드
+     * 삭제 되지 않은 trip 을 cursor 다음부터 size 개 반환하는 메소드 (keyset 페이지)
      *
-     * @return List<TripResponse>
+     * @param cursor
+     * @param size
+     * @return tripPage
      */
     @Transactional(readOnly = true)
-    public List<TripResponse> getAllTrips() {
-        return tripRepository.findAll()
-            .stream().filter(trip ->
-                trip.getBaseTimeEntity().getDeletedAt() == null
-            )
-            .map(TripResponse::fromEntity)
-            .collect(Collectors.toList());
+    public TripPageResponse getAllTrips(String cursor, int size) {
+        // 다음 페이지 존재 여부를 알기 위해 size + 1 개 조회
+        List<TripResponse> trips = tripRepository.findTripResponsesAfterCursor(
+            TripPageResponse.decodeCursor(cursor), PageRequest.of(0, size + 1)
+        );
+        return TripPageResponse.of(trips, size);
     }
 
     /**
-     * trip과 연관된 itinerary 리스트 반환 (여행 상세 조회)
+     * trip과 연관된 itinerary 리스트 반환 (여행 상세 조회). 조립된 결과는 TripDetailCache 에 캐싱.
+     * 캐시 적중 시에는 트랜잭션(DB 커넥션)을 열지 않도록, 실제 조회할 때만 트랜잭션을 시작한다.
+     * (백그라운드 갱신은 다른 스레드에서 실행되므로 loader 가 직접 트랜잭션을 연다)
+     * 버전은 같은 트랜잭션에서 응답보다 먼저 읽어, 응답이 버전보다 오래된 경우가 없도록 한다.
      *
      * @param tripId
      * @return tripDetail
      */
-    @Transactional(readOnly = true)
     public TripDetailResponse getTripDetail(Long tripId) {
-        Trip trip = getTripByTripId(tripId);
-        return TripDetailResponse.fromEntity(trip);
+        return tripDetailCache.get(tripId, () -> transactionOperations.execute(status -> {
+            String version = tripRepository.findDetailVersionByTripId(tripId)
+                .map(TripDetailVersion::toETag)
+                .orElse(null);
+            return TripDetailResponse.fromEntity(getTripWithItineraries(tripId), version);
+        }));
+    }
+
+    /**
+     * trip 상세 조회 응답의 현재 버전 (ETag) 반환. 캐시된 응답이 갱신 전이면 DB 를 조회하지 않음
+     *
+     * @param tripId
+     * @return version (trip 이 없으면 empty)
+     */
+    public Optional<String> getTripDetailVersion(Long tripId) {
+        String cachedVersion = tripDetailCache.getFreshVersion(tripId);
+        if (cachedVersion != null) {
+            return Optional.of(cachedVersion);
+        }
+        return tripRepository.findDetailVersionByTripId(tripId)
+            .map(TripDetailVersion::toETag);
     }
 
     /**
@@ -173,6 +216,7 @@ public class TripService {
         if (saveTrip == null) {
             throw new TripException(TRIP_SAVE_FAILED);
         }
+        eventPublisher.publishEvent(new TripChangedEvent(tripId));
         return TripResponse.fromEntity(saveTrip);
     }
 
@@ -182,7 +226,7 @@ public class TripService {
      * @param tripId
      */
     public TripResponse deleteTrip(Long userId, Long tripId) {
-        Trip existTrip = getTripByTripId(tripId);
+        Trip existTrip = getTripWithItineraries(tripId);
         isMatchUserAndTrip(userId, existTrip);
 
         existTrip.delete();
@@ -191,6 +235,7 @@ public class TripService {
         if (saveTrip == null) {
             throw new TripException(TRIP_SAVE_FAILED);
         }
+        eventPublisher.publishEvent(new TripChangedEvent(tripId));
         return TripResponse.fromEntity(saveTrip);
     }
 
@@ -202,17 +247,7 @@ public class TripService {
      */
     @Transactional(readOnly = true)
     public Optional<List<TripResponse>> getTripByKeyword(String keyword) {
-        Optional<List<Trip>> optionalTrips = tripRepository
-            .findByTripNameContains(keyword);
-
-        List<TripResponse> tripResponseList = new ArrayList<>();
-        for (Trip trip : optionalTrips.get()) {
-            if (trip.getBaseTimeEntity().getDeletedAt() != null) {
-                continue;
-            }
-            tripResponseList.add(TripResponse.fromEntity(trip));
-        }
-        return Optional.ofNullable(tripResponseList);
+        return Optional.ofNullable(tripRepository.findTripResponsesByKeyword(keyword));
     }
 
     @Transactional
@@ -225,6 +260,7 @@ public class TripService {
         } else if (currentLikes > 0) {
             trip.setLikesCount(currentLikes - 1);
         }
+        eventPublisher.publishEvent(new TripChangedEvent(tripId));
 
     }
 
@@ -1,16 +1,19 @@
 package com.fastcampus.toyproject.domain.user.controller;
 
 import com.fastcampus.toyproject.common.dto.ResponseDTO;
+import com.fastcampus.toyproject.common.util.ETagUtil;
 import com.fastcampus.toyproject.config.security.jwt.UserPrincipal;
 import com.fastcampus.toyproject.domain.trip.dto.TripDetailResponse;
 import com.fastcampus.toyproject.domain.trip.dto.TripResponse;
 import com.fastcampus.toyproject.domain.user.service.UserService;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -19,9 +22,19 @@ public class UserController {
 
     private final UserService userService;
 
+    /**
+     * If-None-Match 가 현재 버전과 같으면 목록을 조회하지 않고 304 반환.
+     * 버전을 목록보다 먼저 읽으므로 응답 목록이 ETag 보다 오래된 경우는 없다.
+     */
     @GetMapping("/trip-list")
     public ResponseDTO<List<TripResponse>> getAllTrip(
-        final UserPrincipal userPrincipal) {
+        final UserPrincipal userPrincipal,
+        final ServletWebRequest webRequest) {
+        webRequest.getResponse()
+            .setHeader(HttpHeaders.CACHE_CONTROL, ETagUtil.REVALIDATE_CACHE_CONTROL);
+        if (webRequest.checkNotModified(userService.getAllTripVersion(userPrincipal.getUserId()))) {
+            return null;
+        }
         return ResponseDTO.ok("사용자 여행 검색 완료", userService.getAllTrip(userPrincipal.getUserId()));
     }
 
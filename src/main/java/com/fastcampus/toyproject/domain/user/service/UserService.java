@@ -113,6 +113,11 @@ public class UserService {
             .orElseThrow(() -> new TripException(NO_SUCH_TRIP));
     }
 
+    @Transactional(readOnly = true)
+    public String getAllTripVersion(Long userId) {
+        return tripService.getTripListVersion(userId);
+    }
+
     @Transactional(readOnly = true)
     public TripDetailResponse getDetailTrip(Long userId, Long tripId) {
         return tripService.findByTripIdAndUserId(tripId, userId);
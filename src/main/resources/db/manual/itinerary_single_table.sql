@@ -0,0 +1,123 @@
+-- Itinerary 상속 전략 JOINED -> SINGLE_TABLE 이전 (MySQL, 수동 실행)
+--
+-- 이 프로젝트는 Flyway 를 쓰지 않으므로 자동으로 실행되지 않는다. 배포 순서
+-- 1. 기존 버전 애플리케이션을 내린다. (이전 중에 movement / lodgement / stay 에 쓰기가 없어야 한다)
+-- 2. mysql -u <user> -p ToyProject < itinerary_single_table.sql
+-- 3. 마지막 결과가 'itinerary 이전 완료' 인지 확인한 뒤 새 버전 애플리케이션을 올린다.
+--
+-- 다시 실행해도 안전하다.
+-- - 새 버전이 먼저 떠서 ddl-auto: update 가 컬럼을 이미 추가했어도 없는 컬럼만 추가한다.
+-- - 타입별 테이블이 없으면 (새 DB 이거나 이미 이전한 DB) 아무것도 하지 않는다.
+-- - 옮긴 행 수가 맞지 않으면 타입별 테이블을 지우지 않고 오류로 멈춘다.
+
+DELIMITER //
+
+DROP PROCEDURE IF EXISTS add_itinerary_column //
+CREATE PROCEDURE add_itinerary_column(IN column_name_ VARCHAR(64), IN definition_ VARCHAR(255))
+BEGIN
+    IF NOT EXISTS (SELECT 1
+                   FROM information_schema.columns
+                   WHERE table_schema = DATABASE()
+                     AND table_name = 'itinerary'
+                     AND column_name = column_name_) THEN
+        SET @ddl = CONCAT('ALTER TABLE itinerary ADD COLUMN ', column_name_, ' ', definition_);
+        PREPARE stmt FROM @ddl;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END IF;
+END //
+
+DROP PROCEDURE IF EXISTS migrate_itinerary_single_table //
+CREATE PROCEDURE migrate_itinerary_single_table()
+BEGIN
+    DECLARE joined_tables INT;
+    DECLARE missing_rows INT;
+
+    SELECT COUNT(*) INTO joined_tables
+    FROM information_schema.tables
+    WHERE table_schema = DATABASE()
+      AND table_name IN ('movement', 'lodgement', 'stay');
+
+    IF joined_tables = 0 THEN
+        SELECT '이전할 타입별 테이블 없음' AS result;
+    ELSEIF joined_tables < 3 THEN
+        SIGNAL SQLSTATE '45000'
+            SET MESSAGE_TEXT = 'movement / lodgement / stay 중 일부만 남아 있음. 수동 확인 필요';
+    ELSE
+        -- 1. itinerary 테이블에 타입별 컬럼 추가
+        CALL add_itinerary_column('departure_date', 'DATETIME(6) NULL COMMENT ''출발 일시''');
+        CALL add_itinerary_column('arrival_date', 'DATETIME(6) NULL COMMENT ''도착 일시''');
+        CALL add_itinerary_column('departure_place', 'VARCHAR(255) NULL COMMENT ''출발 장소''');
+        CALL add_itinerary_column('arrival_place', 'VARCHAR(255) NULL COMMENT ''도착 장소''');
+        CALL add_itinerary_column('departure_place_info', 'VARCHAR(255) NULL COMMENT ''출발지 위치 정보''');
+        CALL add_itinerary_column('arrival_place_info', 'VARCHAR(255) NULL COMMENT ''도착지 위치 정보''');
+        CALL add_itinerary_column('check_in', 'DATETIME(6) NULL COMMENT ''체크인 일시''');
+        CALL add_itinerary_column('check_out', 'DATETIME(6) NULL COMMENT ''도착지 일시''');
+        CALL add_itinerary_column('place_info', 'VARCHAR(255) NULL COMMENT ''위치 정보''');
+
+        -- 2. movement / lodgement / stay 의 데이터를 itinerary 로 복사
+        START TRANSACTION;
+
+        UPDATE itinerary i
+            JOIN movement m ON m.itinerary_id = i.itinerary_id
+        SET i.departure_date       = m.departure_date,
+            i.arrival_date         = m.arrival_date,
+            i.departure_place      = m.departure_place,
+            i.arrival_place        = m.arrival_place,
+            i.departure_place_info = m.departure_place_info,
+            i.arrival_place_info   = m.arrival_place_info;
+
+        UPDATE itinerary i
+            JOIN lodgement l ON l.itinerary_id = i.itinerary_id
+        SET i.check_in   = l.check_in,
+            i.check_out  = l.check_out,
+            i.place_info = l.place_info;
+
+        UPDATE itinerary i
+            JOIN stay s ON s.itinerary_id = i.itinerary_id
+        SET i.departure_date = s.departure_date,
+            i.arrival_date   = s.arrival_date,
+            i.place_info     = s.place_info;
+
+        COMMIT;
+
+        -- 3. 옮긴 행 수 확인 : 타입별 행이 모두 같은 dtype 의 itinerary 행으로 옮겨졌어야 한다
+        SELECT (SELECT COUNT(*) FROM movement m
+                    LEFT JOIN itinerary i
+                        ON i.itinerary_id = m.itinerary_id AND i.dtype = 'Movement'
+                WHERE i.itinerary_id IS NULL)
+             + (SELECT COUNT(*) FROM lodgement l
+                    LEFT JOIN itinerary i
+                        ON i.itinerary_id = l.itinerary_id AND i.dtype = 'Lodgement'
+                WHERE i.itinerary_id IS NULL)
+             + (SELECT COUNT(*) FROM stay s
+                    LEFT JOIN itinerary i
+                        ON i.itinerary_id = s.itinerary_id AND i.dtype = 'Stay'
+                WHERE i.itinerary_id IS NULL)
+             + ABS((SELECT COUNT(*) FROM itinerary WHERE dtype = 'Movement')
+                   - (SELECT COUNT(*) FROM movement))
+             + ABS((SELECT COUNT(*) FROM itinerary WHERE dtype = 'Lodgement')
+                   - (SELECT COUNT(*) FROM lodgement))
+             + ABS((SELECT COUNT(*) FROM itinerary WHERE dtype = 'Stay')
+                   - (SELECT COUNT(*) FROM stay))
+        INTO missing_rows;
+
+        IF missing_rows > 0 THEN
+            SIGNAL SQLSTATE '45000'
+                SET MESSAGE_TEXT = '타입별 행 수가 itinerary 와 맞지 않음. 타입별 테이블을 지우지 않았음';
+        END IF;
+
+        -- 4. 확인이 끝난 경우에만 타입별 테이블 삭제
+        DROP TABLE movement;
+        DROP TABLE lodgement;
+        DROP TABLE stay;
+        SELECT 'itinerary 이전 완료' AS result;
+    END IF;
+END //
+
+DELIMITER ;
+
+CALL migrate_itinerary_single_table();
+
+DROP PROCEDURE migrate_itinerary_single_table;
+DROP PROCEDURE add_itinerary_column;
@@ -0,0 +1,33 @@
+package com.fastcampus.toyproject.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ETag 유틸 테스트")
+class ETagUtilTest {
+
+    private final LocalDateTime updatedAt = LocalDateTime.of(2023, 11, 1, 12, 0);
+
+    @Test
+    void 같은_버전_정보는_같은_ETag를_만든다() {
+        assertThat(ETagUtil.fromParts(1L, 3L, updatedAt))
+            .isEqualTo(ETagUtil.fromParts(1L, 3L, updatedAt));
+    }
+
+    @Test
+    void 버전_정보가_하나라도_다르면_다른_ETag를_만든다() {
+        String etag = ETagUtil.fromParts(1L, 3L, updatedAt);
+
+        assertThat(ETagUtil.fromParts(1L, 4L, updatedAt)).isNotEqualTo(etag);
+        assertThat(ETagUtil.fromParts(1L, 3L, updatedAt.plusNanos(1_000))).isNotEqualTo(etag);
+        assertThat(ETagUtil.fromParts(1L, 3L, null)).isNotEqualTo(etag);
+    }
+
+    @Test
+    void header_형식은_따옴표로_감싼다() {
+        assertThat(ETagUtil.quote("abc")).isEqualTo("\"abc\"");
+    }
+}
@@ -0,0 +1,76 @@
+package com.fastcampus.toyproject.common.util.api.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("적응형 호출 속도 제한 테스트")
+class AdaptiveRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private AdaptiveRateLimiter limiter(int maxConcurrency) {
+        return AdaptiveRateLimiter.builder()
+            .permitsPerSecond(2)
+            .minPermitsPerSecond(1)
+            .burst(2)
+            .minConcurrency(1)
+            .maxConcurrency(maxConcurrency)
+            .targetLatency(Duration.ofMillis(500))
+            .maxWait(Duration.ZERO)
+            .ticker(now::get)
+            .build();
+    }
+
+    @Test
+    void token_이_없으면_거절하고_시간이_지나면_다시_허용한다() {
+        AdaptiveRateLimiter limiter = limiter(10);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        now.addAndGet(Duration.ofMillis(500).toNanos());
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 동시_호출_수를_넘으면_거절한다() {
+        AdaptiveRateLimiter limiter = limiter(1);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        limiter.onComplete(Duration.ofMillis(10).toNanos());
+
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void 응답_429_를_받으면_속도와_동시_호출_수를_절반으로_줄인다() {
+        AdaptiveRateLimiter limiter = limiter(8);
+
+        limiter.tryAcquire();
+        limiter.onThrottled();
+
+        assertThat(limiter.getPermitsPerSecond()).isEqualTo(1.0);
+        assertThat(limiter.getConcurrencyLimit()).isEqualTo(4);
+        assertThat(limiter.getThrottledCount()).isEqualTo(1);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void 느린_응답은_동시_호출_수를_줄인다() {
+        AdaptiveRateLimiter limiter = limiter(10);
+
+        limiter.tryAcquire();
+        limiter.onComplete(Duration.ofSeconds(2).toNanos());
+
+        assertThat(limiter.getConcurrencyLimit()).isEqualTo(9);
+    }
+}
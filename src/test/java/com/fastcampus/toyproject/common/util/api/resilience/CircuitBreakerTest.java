@@ -0,0 +1,91 @@
+package com.fastcampus.toyproject.common.util.api.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fastcampus.toyproject.common.util.api.resilience.CircuitBreaker.State;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("circuit breaker 테스트")
+class CircuitBreakerTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(3).toNanos();
+
+    private final AtomicLong now = new AtomicLong();
+
+    private final CircuitBreaker circuitBreaker = CircuitBreaker.builder()
+        .name("test")
+        .failureRateThreshold(50)
+        .slowCallRateThreshold(50)
+        .slowCallDuration(Duration.ofSeconds(1))
+        .slidingWindowSize(4)
+        .minimumNumberOfCalls(4)
+        .waitDurationInOpen(Duration.ofSeconds(10))
+        .permittedCallsInHalfOpen(2)
+        .ticker(now::get)
+        .build();
+
+    @Test
+    void 실패_비율이_기준을_넘으면_호출을_차단한다() {
+        circuitBreaker.onSuccess(FAST);
+        circuitBreaker.onSuccess(FAST);
+        circuitBreaker.onError(FAST);
+        assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+
+        circuitBreaker.onError(FAST);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+        assertThat(circuitBreaker.getNotPermittedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 느린_호출_비율이_기준을_넘어도_차단한다() {
+        circuitBreaker.onSuccess(SLOW);
+        circuitBreaker.onSuccess(SLOW);
+        circuitBreaker.onSuccess(FAST);
+        circuitBreaker.onSuccess(FAST);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    void 대기_시간이_지나면_일부_호출로_회복을_확인한다() {
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onError(FAST);
+        }
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+        assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+
+        circuitBreaker.onSuccess(FAST);
+        circuitBreaker.onSuccess(FAST);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void 호출하지_않고_돌려준_시험_호출_자리는_다시_사용할_수_있다() {
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onError(FAST);
+        }
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // bulkhead 등 다른 제한에 걸려 호출하지 못한 경우
+        for (int i = 0; i < 5; i++) {
+            assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+            circuitBreaker.releasePermission();
+        }
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+}
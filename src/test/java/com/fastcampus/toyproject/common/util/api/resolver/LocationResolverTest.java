@@ -0,0 +1,84 @@
+package com.fastcampus.toyproject.common.util.api.resolver;
+
+import static com.fastcampus.toyproject.common.exception.DefaultExceptionCode.LOCATION_SEARCH_UNAVAILABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fastcampus.toyproject.common.exception.DefaultException;
+import com.fastcampus.toyproject.common.util.api.dto.Document;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+@DisplayName("장소 변환 resolver 조합 테스트")
+class LocationResolverTest {
+
+    private final DictionaryLocationResolver dictionary =
+        DictionaryLocationResolver.load(new ClassPathResource("places.tsv"));
+
+    @Test
+    void 사전_파일에서_장소를_찾는다() {
+        assertThat(dictionary.size()).isEqualTo(2);
+        assertThat(dictionary.resolvePlaceName(" 서울역 ")).isEqualTo("서울역 경부선");
+        assertThat(dictionary.resolve("서울역").get().getAddressName())
+            .isEqualTo("서울 용산구 동자동 43-205");
+        assertThat(dictionary.resolvePlaceName("부산역")).isEqualTo("부산역");
+    }
+
+    @Test
+    void 사전에_있는_장소는_원격_호출하지_않는다() {
+        LocationResolver remote = mock(LocationResolver.class);
+        when(remote.resolve(anyString())).thenReturn(Optional.of(place("부산역 경부선")));
+        LocationResolver chain = new ChainedLocationResolver(List.of(dictionary, remote));
+
+        assertThat(chain.resolvePlaceName("제주공항")).isEqualTo("제주국제공항");
+        verify(remote, never()).resolve(anyString());
+
+        assertThat(chain.resolvePlaceName("부산역")).isEqualTo("부산역 경부선");
+        verify(remote, times(1)).resolve("부산역");
+    }
+
+    @Test
+    void 캐시는_같은_keyword_를_한번만_조회한다() {
+        LocationResolver remote = mock(LocationResolver.class);
+        when(remote.resolve(anyString())).thenReturn(Optional.empty());
+        CachingLocationResolver cache = new CachingLocationResolver(
+            remote, 10, Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+        cache.resolvePlaceName("없는 장소");
+        cache.resolvePlaceName("없는  장소");
+
+        verify(remote, times(1)).resolve(anyString());
+        assertThat(cache.getPlaceCacheStats().getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 검색할_수_없으면_keyword_를_그대로_사용하고_캐싱하지_않는다() {
+        LocationResolver remote = mock(LocationResolver.class);
+        when(remote.resolve(anyString()))
+            .thenThrow(new DefaultException(LOCATION_SEARCH_UNAVAILABLE));
+        CachingLocationResolver cache = new CachingLocationResolver(
+            remote, 10, Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+        assertThat(cache.resolvePlaceName("서울역")).isEqualTo("서울역");
+        assertThat(cache.resolvePlaceName("서울역")).isEqualTo("서울역");
+        verify(remote, times(2)).resolve(anyString());
+    }
+
+    @Test
+    void noop_은_항상_keyword_를_그대로_반환한다() {
+        assertThat(new NoOpLocationResolver().resolvePlaceName("서울역")).isEqualTo("서울역");
+    }
+
+    private static Document place(String placeName) {
+        return new Document(null, 0, 0, null, placeName, null, 0);
+    }
+}
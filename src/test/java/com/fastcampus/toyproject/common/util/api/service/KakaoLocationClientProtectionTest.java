@@ -0,0 +1,119 @@
+package com.fastcampus.toyproject.common.util.api.service;
+
+import static com.fastcampus.toyproject.common.exception.DefaultExceptionCode.LOCATION_SEARCH_UNAVAILABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fastcampus.toyproject.common.exception.DefaultException;
+import com.fastcampus.toyproject.common.util.api.resilience.AdaptiveRateLimiter;
+import com.fastcampus.toyproject.common.util.api.resilience.Bulkhead;
+import com.fastcampus.toyproject.common.util.api.resilience.CircuitBreaker;
+import com.fastcampus.toyproject.common.util.api.resilience.CircuitBreaker.State;
+import com.fasterxml.jackson.core.JsonFactory;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.io.HttpClientResponseHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+@DisplayName("kakao 호출 보호 테스트")
+class KakaoLocationClientProtectionTest {
+
+    private final CloseableHttpClient httpClient = mock(CloseableHttpClient.class);
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void kakao_quota_초과는_장애로_세지_않고_keyword_를_그대로_쓰도록_돌려준다() throws IOException {
+        givenKakaoResponds(HttpStatus.SC_TOO_MANY_REQUESTS);
+        CircuitBreaker circuitBreaker = CircuitBreaker.builder()
+            .name("kakao")
+            .failureRateThreshold(50)
+            .slowCallRateThreshold(100)
+            .slowCallDuration(Duration.ofSeconds(3))
+            .slidingWindowSize(4)
+            .minimumNumberOfCalls(4)
+            .waitDurationInOpen(Duration.ofSeconds(10))
+            .permittedCallsInHalfOpen(1)
+            .build();
+        AdaptiveRateLimiter rateLimiter = AdaptiveRateLimiter.builder()
+            .permitsPerSecond(100)
+            .minPermitsPerSecond(1)
+            .burst(100)
+            .minConcurrency(1)
+            .maxConcurrency(10)
+            .targetLatency(Duration.ofSeconds(1))
+            .maxWait(Duration.ZERO)
+            .ticker(now::get)
+            .build();
+        KakaoLocationClient client = client(circuitBreaker, new Bulkhead(10, Duration.ZERO), rateLimiter);
+
+        for (int i = 0; i < 4; i++) {
+            now.addAndGet(Duration.ofSeconds(1).toNanos());
+            assertThatThrownBy(() -> client.resolve("서울역"))
+                .isInstanceOf(DefaultException.class)
+                .extracting("errorCode").isEqualTo(LOCATION_SEARCH_UNAVAILABLE);
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(rateLimiter.getThrottledCount()).isEqualTo(4);
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(client.resolvePlaceName("서울역")).isEqualTo("서울역");
+    }
+
+    @Test
+    void 호출_속도_token_을_얻은_뒤에_circuit_breaker_시험_호출_자리를_잡는다() {
+        CircuitBreaker circuitBreaker = mock(CircuitBreaker.class);
+        Bulkhead bulkhead = mock(Bulkhead.class);
+        AdaptiveRateLimiter rateLimiter = mock(AdaptiveRateLimiter.class);
+        when(rateLimiter.tryAcquire()).thenReturn(true);
+        when(circuitBreaker.tryAcquirePermission()).thenReturn(false);
+
+        assertThatThrownBy(() -> client(circuitBreaker, bulkhead, rateLimiter).resolve("서울역"))
+            .extracting("errorCode").isEqualTo(LOCATION_SEARCH_UNAVAILABLE);
+
+        InOrder order = inOrder(rateLimiter, circuitBreaker);
+        order.verify(rateLimiter).tryAcquire();
+        order.verify(circuitBreaker).tryAcquirePermission();
+        order.verify(rateLimiter).release();
+        verifyNoInteractions(bulkhead, httpClient);
+    }
+
+    @Test
+    void 호출_속도_제한에_걸리면_circuit_breaker_를_건드리지_않는다() {
+        CircuitBreaker circuitBreaker = mock(CircuitBreaker.class);
+        Bulkhead bulkhead = mock(Bulkhead.class);
+        AdaptiveRateLimiter rateLimiter = mock(AdaptiveRateLimiter.class);
+        when(rateLimiter.tryAcquire()).thenReturn(false);
+
+        assertThatThrownBy(() -> client(circuitBreaker, bulkhead, rateLimiter).resolve("서울역"))
+            .extracting("errorCode").isEqualTo(LOCATION_SEARCH_UNAVAILABLE);
+
+        verifyNoInteractions(circuitBreaker, bulkhead, httpClient);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenKakaoResponds(int status) throws IOException {
+        ClassicHttpResponse response = mock(ClassicHttpResponse.class);
+        when(response.getCode()).thenReturn(status);
+        when(httpClient.execute(any(ClassicHttpRequest.class), any(HttpClientResponseHandler.class)))
+            .thenAnswer(i -> ((HttpClientResponseHandler<?>) i.getArgument(1)).handleResponse(response));
+    }
+
+    private KakaoLocationClient client(
+        CircuitBreaker circuitBreaker, Bulkhead bulkhead, AdaptiveRateLimiter rateLimiter
+    ) {
+        return new KakaoLocationClient(httpClient, new JsonFactory(),
+            circuitBreaker, bulkhead, rateLimiter, "test-key");
+    }
+}
@@ -1,4 +1,4 @@
-package com.fastcampus.toyproject.common.util;
+package com.fastcampus.toyproject.common.util.api.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -8,7 +8,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 @SpringBootTest
-class LocationUtilTest {
+class KakaoLocationClientTest {
+
+    @Autowired
+    private KakaoLocationClient locationClient;
 
     @Test
     void 속도() throws IOException {
@@ -16,7 +19,7 @@ class LocationUtilTest {
 
         String location1 = "청와대";
 
-        LocationUtil.requestKeywordSearch(location1);
+        locationClient.resolvePlaceName(location1);
 
         long stopTime = System.currentTimeMillis();
 
@@ -30,10 +33,10 @@ class LocationUtilTest {
         String location3 = "";
         String location4 = "런던 브리타니아 인터내셔널 호텔";
 
-        assertThat(LocationUtil.requestKeywordSearch(location1)).isEqualTo("청와대 본관");
-        assertThat(LocationUtil.requestKeywordSearch(location2)).isEqualTo("백악관");
-        assertThat(LocationUtil.requestKeywordSearch(location3)).isEqualTo("북한산둘레길 6구간평창마을길");
-        assertThat(LocationUtil.requestKeywordSearch(location4)).isEqualTo(location4);
+        assertThat(locationClient.resolvePlaceName(location1)).isEqualTo("청와대 본관");
+        assertThat(locationClient.resolvePlaceName(location2)).isEqualTo("백악관");
+        assertThat(locationClient.resolvePlaceName(location3)).isEqualTo("북한산둘레길 6구간평창마을길");
+        assertThat(locationClient.resolvePlaceName(location4)).isEqualTo(location4);
 
 
     }
@@ -0,0 +1,47 @@
+package com.fastcampus.toyproject.common.util.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fastcampus.toyproject.common.util.api.dto.Document;
+import com.fasterxml.jackson.core.JsonFactory;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("kakao 응답 streaming parser 테스트")
+class KakaoResponseParserTest {
+
+    private final KakaoResponseParser responseParser =
+        new KakaoResponseParser(new JsonFactory());
+
+    @Test
+    void 첫_번째_장소의_필요한_필드만_읽는다() throws IOException {
+        String json = "{\"meta\":{\"same_name\":{\"region\":[]},\"total_count\":2},"
+            + "\"documents\":["
+            + "{\"category_name\":\"여행 > 관광,명소\",\"place_name\":\"청와대 본관\","
+            + "\"address_name\":\"서울 종로구 세종로 1\",\"x\":\"126.974\",\"y\":\"37.586\"},"
+            + "{\"place_name\":\"청와대 사랑채\"}"
+            + "]}";
+
+        Optional<Document> place = parse(json);
+
+        assertThat(place).isPresent();
+        assertThat(place.get().getPlaceName()).isEqualTo("청와대 본관");
+        assertThat(place.get().getAddressName()).isEqualTo("서울 종로구 세종로 1");
+        assertThat(place.get().getLongitude()).isEqualTo(126.974);
+        assertThat(place.get().getLatitude()).isEqualTo(37.586);
+    }
+
+    @Test
+    void 검색_결과가_없으면_empty() throws IOException {
+        assertThat(parse("{\"documents\":[],\"meta\":{\"total_count\":0}}")).isEmpty();
+    }
+
+    private Optional<Document> parse(String json) throws IOException {
+        return responseParser.parseFirstDocument(
+            new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,64 @@
+package com.fastcampus.toyproject.common.util.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LRU + TTL 캐시 테스트")
+class ExpiringLruCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void 최대_크기를_넘으면_가장_오래_사용하지_않은_항목이_제거된다() {
+        ExpiringLruCache<String, String> cache =
+            new ExpiringLruCache<>(2, Duration.ofMinutes(1), now::get);
+
+        cache.put("서울역", "서울역");
+        cache.put("제주공항", "제주국제공항");
+        cache.get("서울역");
+        cache.put("부산역", "부산역");
+
+        assertThat(cache.get("제주공항")).isNull();
+        assertThat(cache.get("서울역")).isEqualTo("서울역");
+        assertThat(cache.get("부산역")).isEqualTo("부산역");
+        assertThat(cache.stats().getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void TTL이_지나면_만료된다() {
+        ExpiringLruCache<String, String> cache =
+            new ExpiringLruCache<>(10, Duration.ofMinutes(1), now::get);
+
+        cache.put("서울역", "서울역");
+        cache.put("없는장소", "", Duration.ofSeconds(10));
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertThat(cache.get("없는장소")).isNull();
+        assertThat(cache.get("서울역")).isEqualTo("서울역");
+
+        now.addAndGet(Duration.ofMinutes(1).toNanos());
+        assertThat(cache.get("서울역")).isNull();
+        assertThat(cache.stats().getExpiredCount()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void 적중_미스_횟수를_기록한다() {
+        ExpiringLruCache<String, String> cache =
+            new ExpiringLruCache<>(10, Duration.ofMinutes(1), now::get);
+
+        cache.get("서울역");
+        cache.put("서울역", "서울역");
+        cache.get("서울역");
+        cache.get("서울역");
+
+        CacheStats stats = cache.stats();
+        assertThat(stats.getHitCount()).isEqualTo(2);
+        assertThat(stats.getMissCount()).isEqualTo(1);
+        assertThat(stats.getHitRatio()).isEqualTo(2.0 / 3);
+    }
+}
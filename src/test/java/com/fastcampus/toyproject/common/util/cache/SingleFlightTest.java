@@ -0,0 +1,108 @@
+package com.fastcampus.toyproject.common.util.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("동시 요청 합치기 테스트")
+class SingleFlightTest {
+
+    @Test
+    void 같은_키의_동시_요청은_한번만_호출된다() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        AtomicInteger callCount = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int threadCount = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            results.add(CompletableFuture.supplyAsync(() ->
+                singleFlight.execute("서울역", () -> {
+                    callCount.incrementAndGet();
+                    await(release);
+                    return "서울역";
+                }), executor));
+        }
+
+        // 나머지 스레드가 모두 진행 중인 호출에 합류할 때까지 대기
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (singleFlight.getCoalescedCount() < threadCount - 1
+            && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+
+        for (CompletableFuture<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("서울역");
+        }
+        assertThat(callCount.get()).isEqualTo(1);
+        assertThat(singleFlight.getInFlightCount()).isZero();
+        executor.shutdown();
+    }
+
+    @Test
+    void 호출이_끝나면_다음_요청은_새로_호출된다() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        AtomicInteger callCount = new AtomicInteger();
+
+        singleFlight.execute("제주공항", () -> "제주국제공항" + callCount.incrementAndGet());
+        String result = singleFlight.execute("제주공항",
+            () -> "제주국제공항" + callCount.incrementAndGet());
+
+        assertThat(result).isEqualTo("제주국제공항2");
+        assertThat(singleFlight.getExecutionCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 예외도_그대로_전달된다() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+        assertThatThrownBy(() -> singleFlight.execute("서울역", () -> {
+            throw new IllegalStateException("kakao 호출 실패");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(singleFlight.getInFlightCount()).isZero();
+    }
+
+    @Test
+    void forget_이후의_요청은_진행_중인_호출에_합류하지_않는다() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() ->
+            singleFlight.execute("서울역", () -> {
+                started.countDown();
+                await(release);
+                return "이전 값";
+            }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        singleFlight.forget("서울역");
+        String second = singleFlight.execute("서울역", () -> "새 값");
+        release.countDown();
+
+        assertThat(second).isEqualTo("새 값");
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("이전 값");
+        assertThat(singleFlight.getCoalescedCount()).isZero();
+        assertThat(singleFlight.getInFlightCount()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
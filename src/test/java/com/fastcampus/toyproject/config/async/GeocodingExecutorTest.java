@@ -0,0 +1,96 @@
+package com.fastcampus.toyproject.config.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("장소 변환 executor 테스트")
+class GeocodingExecutorTest {
+
+    @Test
+    void 큐가_가득_차면_호출한_스레드가_직접_실행한다() throws Exception {
+        GeocodingExecutor executor = new GeocodingExecutor(1, 1, 1, 60, 5);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<String> runner = new AtomicReference<>();
+
+        executor.execute(() -> await(release));   // 작업 스레드 점유
+        executor.execute(() -> await(release));   // 큐 점유
+        executor.execute(() -> runner.set(Thread.currentThread().getName()));
+
+        assertThat(runner.get()).isEqualTo(Thread.currentThread().getName());
+        assertThat(executor.getQueueSize()).isEqualTo(1);
+        release.countDown();
+        executor.destroy();
+    }
+
+    @Test
+    void nonBlocking_은_큐가_가득_차면_호출한_스레드에서_실행하지_않고_거절한다() {
+        GeocodingExecutor executor = new GeocodingExecutor(1, 1, 1, 60, 5);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<String> runner = new AtomicReference<>();
+
+        executor.execute(() -> await(release));   // 작업 스레드 점유
+        executor.execute(() -> await(release));   // 큐 점유
+
+        assertThatThrownBy(() -> executor.nonBlocking()
+            .execute(() -> runner.set(Thread.currentThread().getName())))
+            .isInstanceOf(RejectedExecutionException.class);
+        assertThat(runner.get()).isNull();
+        assertThat(executor.getRejectedCount()).isEqualTo(1);
+        release.countDown();
+        executor.destroy();
+    }
+
+    @Test
+    void 종료_시_남은_작업을_마치고_스레드_이름에_접두사가_붙는다() throws Exception {
+        GeocodingExecutor executor = new GeocodingExecutor(2, 2, 10, 60, 5);
+        AtomicReference<String> runner = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        executor.execute(() -> {
+            runner.set(Thread.currentThread().getName());
+            done.countDown();
+        });
+        executor.destroy();
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(runner.get()).startsWith("geocoding-");
+        assertThat(executor.getCompletedTaskCount()).isEqualTo(1);
+    }
+
+    @Test
+    void virtual_모드는_지원하지_않는_JDK에서도_동작한다() throws Exception {
+        GeocodingExecutor executor =
+            GeocodingExecutor.create(GeocodingExecutor.Mode.VIRTUAL, 2, 2, 10, 60, 5);
+        AtomicReference<String> runner = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        executor.execute(() -> {
+            runner.set(Thread.currentThread().getName());
+            done.countDown();
+        });
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(runner.get()).startsWith("geocoding-");
+        if (Runtime.version().feature() >= 21) {
+            assertThat(executor.getMode()).isEqualTo(GeocodingExecutor.Mode.VIRTUAL);
+        } else {
+            assertThat(executor.getMode()).isEqualTo(GeocodingExecutor.Mode.PLATFORM);
+        }
+        executor.destroy();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
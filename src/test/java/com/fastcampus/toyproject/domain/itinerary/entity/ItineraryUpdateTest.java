@@ -0,0 +1,92 @@
+package com.fastcampus.toyproject.domain.itinerary.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fastcampus.toyproject.common.BaseTimeEntity;
+import com.fastcampus.toyproject.common.util.api.resolver.LocationResolver;
+import com.fastcampus.toyproject.domain.itinerary.dto.ItineraryUpdateRequest;
+import com.fastcampus.toyproject.domain.itinerary.type.ItineraryType;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("여정 수정 시 위치 정보 재변환 테스트")
+class ItineraryUpdateTest {
+
+    private final LocalDateTime now = LocalDateTime.now();
+    private final LocationResolver locationResolver = mock(LocationResolver.class);
+
+    private final Movement movement = Movement.builder()
+        .itineraryId(1L)
+        .itineraryName("비행기")
+        .itineraryType(ItineraryType.MOVEMENT)
+        .itineraryOrder(1)
+        .departureDate(now).arrivalDate(now)
+        .departurePlace("인천 공항").arrivalPlace("도쿄 공항")
+        .departurePlaceInfo("인천국제공항").arrivalPlaceInfo("하네다공항")
+        .baseTimeEntity(new BaseTimeEntity())
+        .build();
+
+    @Test
+    void 장소가_같으면_다시_변환하지_않는다() {
+        ItineraryUpdateRequest req = movementRequest("비행기 (지연)", "인천 공항", "도쿄 공항");
+
+        assertThat(movement.getChangedPlaceKeywords(req)).isEmpty();
+        movement.update(req, locationResolver);
+
+        verify(locationResolver, never()).resolvePlaceName(anyString());
+        assertThat(movement.getItineraryName()).isEqualTo("비행기 (지연)");
+        assertThat(movement.getDeparturePlaceInfo()).isEqualTo("인천국제공항");
+        assertThat(movement.getArrivalPlaceInfo()).isEqualTo("하네다공항");
+    }
+
+    @Test
+    void 바뀐_장소만_다시_변환한다() {
+        when(locationResolver.resolvePlaceName("나리타 공항")).thenReturn("나리타국제공항");
+        ItineraryUpdateRequest req = movementRequest("비행기", "인천 공항", "나리타 공항");
+
+        assertThat(movement.getChangedPlaceKeywords(req)).containsExactly("나리타 공항");
+        movement.update(req, locationResolver);
+
+        verify(locationResolver, times(1)).resolvePlaceName(anyString());
+        assertThat(movement.getDeparturePlaceInfo()).isEqualTo("인천국제공항");
+        assertThat(movement.getArrivalPlace()).isEqualTo("나리타 공항");
+        assertThat(movement.getArrivalPlaceInfo()).isEqualTo("나리타국제공항");
+    }
+
+    @Test
+    void 숙박은_이름이_바뀐_경우에만_다시_변환한다() {
+        Lodgement lodgement = Lodgement.builder()
+            .itineraryName("신주쿠 워싱턴 호텔")
+            .itineraryType(ItineraryType.LODGEMENT)
+            .itineraryOrder(2)
+            .checkIn(now).checkOut(now)
+            .placeInfo("신주쿠 워싱턴 호텔 본관")
+            .baseTimeEntity(new BaseTimeEntity())
+            .build();
+        ItineraryUpdateRequest req = ItineraryUpdateRequest.builder()
+            .itineraryId(2L).type(ItineraryType.LODGEMENT)
+            .name("신주쿠 워싱턴 호텔").startDate(now).endDate(now.plusDays(1)).order(3)
+            .build();
+
+        lodgement.update(req, locationResolver);
+
+        verify(locationResolver, never()).resolvePlaceName(anyString());
+        assertThat(lodgement.getItineraryOrder()).isEqualTo(3);
+        assertThat(lodgement.getPlaceInfo()).isEqualTo("신주쿠 워싱턴 호텔 본관");
+    }
+
+    private ItineraryUpdateRequest movementRequest(String name, String departure, String arrival) {
+        return ItineraryUpdateRequest.builder()
+            .itineraryId(1L).type(ItineraryType.MOVEMENT)
+            .name(name).startDate(now).endDate(now).order(1)
+            .departurePlace(departure).arrivalPlace(arrival)
+            .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.fastcampus.toyproject.domain.itinerary.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fastcampus.toyproject.domain.itinerary.type.PlaceEnrichmentStatus;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("위치 정보 변환 작업 재시도 테스트")
+class PlaceEnrichmentTaskTest {
+
+    @Test
+    void 실패하면_backoff_후_재시도하도록_예약된다() {
+        PlaceEnrichmentTask task = PlaceEnrichmentTask.of(1L);
+
+        task.retryLater("kakao 호출 실패", 3, Duration.ofSeconds(5));
+        LocalDateTime firstRetry = task.getNextAttemptAt();
+        task.retryLater("kakao 호출 실패", 3, Duration.ofSeconds(5));
+
+        assertThat(task.getStatus()).isEqualTo(PlaceEnrichmentStatus.PENDING);
+        assertThat(task.getAttempts()).isEqualTo(2);
+        assertThat(task.getNextAttemptAt()).isAfter(firstRetry);
+        assertThat(task.getLastError()).isEqualTo("kakao 호출 실패");
+    }
+
+    @Test
+    void 최대_시도_횟수를_넘으면_실패_처리된다() {
+        PlaceEnrichmentTask task = PlaceEnrichmentTask.of(1L);
+
+        for (int i = 0; i < 3; i++) {
+            task.retryLater("kakao 호출 실패", 3, Duration.ofSeconds(5));
+        }
+
+        assertThat(task.getStatus()).isEqualTo(PlaceEnrichmentStatus.FAILED);
+    }
+}
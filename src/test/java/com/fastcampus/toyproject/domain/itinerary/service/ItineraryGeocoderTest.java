@@ -0,0 +1,195 @@
+package com.fastcampus.toyproject.domain.itinerary.service;
+
+import static com.fastcampus.toyproject.common.exception.DefaultExceptionCode.LOCATION_SEARCH_FAILED;
+import static com.fastcampus.toyproject.common.exception.DefaultExceptionCode.LOCATION_SEARCH_UNAVAILABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fastcampus.toyproject.common.exception.DefaultException;
+import com.fastcampus.toyproject.common.util.api.dto.Document;
+import com.fastcampus.toyproject.common.util.api.resolver.LocationResolver;
+import com.fastcampus.toyproject.config.async.GeocodingExecutor;
+import com.fastcampus.toyproject.domain.itinerary.dto.ItineraryRequest;
+import com.fastcampus.toyproject.domain.itinerary.type.ItineraryType;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+@DisplayName("여정 장소 일괄 변환 테스트")
+class ItineraryGeocoderTest {
+
+    @Mock
+    private LocationResolver locationResolver;
+
+    private ItineraryGeocoder itineraryGeocoder;
+    private ExecutorService executor;
+    private LocalDateTime now = LocalDateTime.now();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(locationResolver.resolve(anyString()))
+            .thenAnswer(i -> Optional.of(place(i.getArgument(0) + " 위치")));
+        itineraryGeocoder = new ItineraryGeocoder(locationResolver, 3_000);
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void 이어지는_이동_여정은_장소를_한번씩만_조회한다() {
+        List<ItineraryRequest> requests = new ArrayList<>();
+        for (int order = 1; order <= 10; order++) {
+            requests.add(ItineraryRequest.builder()
+                .name("이동" + order)
+                .type(ItineraryType.MOVEMENT)
+                .startDate(now).endDate(now)
+                .departurePlace("장소" + order)
+                .arrivalPlace("장소" + (order + 1))
+                .order(order)
+                .build());
+        }
+
+        ResolvedPlaces resolvedPlaces = itineraryGeocoder.resolve(requests, executor);
+
+        assertThat(resolvedPlaces.size()).isEqualTo(11);
+        assertThat(resolvedPlaces.resolvePlaceName("장소1")).isEqualTo("장소1 위치");
+        assertThat(resolvedPlaces.resolvePlaceName(" 장소11 ")).isEqualTo("장소11 위치");
+        verify(locationResolver, times(1)).resolve("장소5");
+        verify(locationResolver, times(11)).resolve(anyString());
+    }
+
+    @Test
+    void 숙박과_체류는_여정_이름으로_조회한다() {
+        List<ItineraryRequest> requests = List.of(
+            ItineraryRequest.builder()
+                .name("신주쿠 워싱턴 호텔").type(ItineraryType.LODGEMENT)
+                .startDate(now).endDate(now).order(1)
+                .build(),
+            ItineraryRequest.builder()
+                .name("신주쿠 워싱턴 호텔").type(ItineraryType.STAY)
+                .startDate(now).endDate(now).order(2)
+                .build()
+        );
+
+        ResolvedPlaces resolvedPlaces = itineraryGeocoder.resolve(requests, executor);
+
+        assertThat(resolvedPlaces.resolvePlaceName("신주쿠 워싱턴 호텔")).isEqualTo("신주쿠 워싱턴 호텔 위치");
+        verify(locationResolver, times(1)).resolve(anyString());
+    }
+
+    @Test
+    void deadline_안에_끝나지_않은_장소는_keyword_그대로_사용하고_degraded로_표시한다() {
+        when(locationResolver.resolve("느린장소")).thenAnswer(i -> {
+            Thread.sleep(2_000);
+            return Optional.of(place("느린장소 위치"));
+        });
+        itineraryGeocoder = new ItineraryGeocoder(locationResolver, 200);
+
+        long start = System.currentTimeMillis();
+        ResolvedPlaces resolvedPlaces = itineraryGeocoder.resolveKeywordsWithinDeadline(
+            List.of("서울역", "느린장소"), executor
+        );
+
+        assertThat(System.currentTimeMillis() - start).isLessThan(1_500);
+        assertThat(resolvedPlaces.resolvePlaceName("서울역")).isEqualTo("서울역 위치");
+        assertThat(resolvedPlaces.resolvePlaceName("느린장소")).isEqualTo("느린장소");
+        assertThat(resolvedPlaces.isDegraded("느린장소")).isTrue();
+        assertThat(resolvedPlaces.isDegraded("서울역")).isFalse();
+        assertThat(resolvedPlaces.getDegradedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void executor_가_가득_차면_요청_스레드에서_조회하지_않고_degraded로_표시한다() {
+        GeocodingExecutor saturated = new GeocodingExecutor(1, 1, 1, 60, 5);
+        CountDownLatch release = new CountDownLatch(1);
+        saturated.execute(() -> await(release));   // 작업 스레드 점유
+        saturated.execute(() -> await(release));   // 큐 점유
+
+        long start = System.currentTimeMillis();
+        ResolvedPlaces resolvedPlaces = itineraryGeocoder.resolveKeywordsWithinDeadline(
+            List.of("서울역"), saturated.nonBlocking()
+        );
+
+        assertThat(System.currentTimeMillis() - start).isLessThan(1_000);
+        assertThat(resolvedPlaces.isDegraded("서울역")).isTrue();
+        assertThat(resolvedPlaces.resolvePlaceName("서울역")).isEqualTo("서울역");
+        verify(locationResolver, never()).resolve(anyString());
+        release.countDown();
+        saturated.destroy();
+    }
+
+    @Test
+    void deadline_전에_실패한_장소도_요청을_실패시키지_않고_degraded로_표시한다() {
+        when(locationResolver.resolve("느린장소"))
+            .thenThrow(new DefaultException(LOCATION_SEARCH_FAILED));   // ex. kakao read timeout
+
+        ResolvedPlaces resolvedPlaces = itineraryGeocoder.resolveKeywordsWithinDeadline(
+            List.of("서울역", "느린장소"), executor
+        );
+
+        assertThat(resolvedPlaces.resolvePlaceName("서울역")).isEqualTo("서울역 위치");
+        assertThat(resolvedPlaces.resolvePlaceName("느린장소")).isEqualTo("느린장소");
+        assertThat(resolvedPlaces.isDegraded("느린장소")).isTrue();
+        assertThat(resolvedPlaces.getDegradedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 백그라운드_변환은_실패한_장소만_degraded로_기록한다() {
+        when(locationResolver.resolve("실패장소")).thenThrow(new IllegalStateException("kakao 오류"));
+
+        ResolvedPlaces resolvedPlaces = itineraryGeocoder.resolveKeywords(
+            List.of("서울역", "실패장소"), executor
+        );
+
+        assertThat(resolvedPlaces.isResolved("서울역")).isTrue();
+        assertThat(resolvedPlaces.isResolved("실패장소")).isFalse();
+        assertThat(resolvedPlaces.isDegraded("실패장소")).isTrue();
+        assertThat(resolvedPlaces.isResolved("조회하지않은장소")).isFalse();
+    }
+
+    @Test
+    void 백그라운드_변환은_kakao_를_사용할_수_없는_장소를_keyword_그대로_완료하지_않는다() {
+        when(locationResolver.resolve("거절된장소"))
+            .thenThrow(new DefaultException(LOCATION_SEARCH_UNAVAILABLE));
+
+        ResolvedPlaces background = itineraryGeocoder.resolveKeywords(List.of("거절된장소"), executor);
+        ResolvedPlaces request = itineraryGeocoder.resolveKeywordsWithinDeadline(
+            List.of("거절된장소"), executor
+        );
+
+        assertThat(background.isResolved("거절된장소")).isFalse();
+        assertThat(request.resolvePlaceName("거절된장소")).isEqualTo("거절된장소");
+        assertThat(request.isDegraded("거절된장소")).isTrue();
+    }
+
+    private static Document place(String placeName) {
+        return new Document(null, 0, 0, null, placeName, null, 0);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
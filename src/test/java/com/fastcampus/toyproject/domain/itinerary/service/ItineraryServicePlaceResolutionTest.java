@@ -0,0 +1,299 @@
+package com.fastcampus.toyproject.domain.itinerary.service;
+
+import static com.fastcampus.toyproject.common.exception.DefaultExceptionCode.LOCATION_SEARCH_FAILED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fastcampus.toyproject.common.BaseTimeEntity;
+import com.fastcampus.toyproject.common.exception.DefaultException;
+import com.fastcampus.toyproject.common.util.api.dto.Document;
+import com.fastcampus.toyproject.common.util.api.resolver.LocationResolver;
+import com.fastcampus.toyproject.config.async.GeocodingExecutor;
+import com.fastcampus.toyproject.domain.itinerary.dto.ItineraryRequest;
+import com.fastcampus.toyproject.domain.itinerary.dto.ItineraryResponse;
+import com.fastcampus.toyproject.domain.itinerary.dto.ItineraryUpdateRequest;
+import com.fastcampus.toyproject.domain.itinerary.entity.Itinerary;
+import com.fastcampus.toyproject.domain.itinerary.entity.Movement;
+import com.fastcampus.toyproject.domain.itinerary.entity.Stay;
+import com.fastcampus.toyproject.domain.itinerary.exception.ItineraryException;
+import com.fastcampus.toyproject.domain.itinerary.exception.ItineraryExceptionCode;
+import com.fastcampus.toyproject.domain.itinerary.repository.ItineraryRepository;
+import com.fastcampus.toyproject.domain.itinerary.type.ItineraryType;
+import com.fastcampus.toyproject.domain.trip.entity.Trip;
+import com.fastcampus.toyproject.domain.trip.exception.TripException;
+import com.fastcampus.toyproject.domain.trip.exception.TripExceptionCode;
+import com.fastcampus.toyproject.domain.trip.service.TripService;
+import com.fastcampus.toyproject.domain.user.entity.User;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("여정 저장/수정 시 장소 변환 테스트")
+class ItineraryServicePlaceResolutionTest {
+
+    @Mock
+    private TripService tripService;
+    @Mock
+    private ItineraryRepository itineraryRepository;
+    @Mock
+    private ItineraryGeocoder itineraryGeocoder;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private PlaceEnrichmentQueue placeEnrichmentQueue;
+    @Mock
+    private GeocodingExecutor geocodingExecutor;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private LocationResolver locationResolver;
+    @Captor
+    private ArgumentCaptor<List<Itinerary>> enqueuedCaptor;
+    @Captor
+    private ArgumentCaptor<Collection<String>> keywordsCaptor;
+
+    private ItineraryService itineraryService;
+
+    private final LocalDateTime now = LocalDateTime.now();
+    private final Trip trip = trip(1L, 1L);
+
+    @BeforeEach
+    void setUp() {
+        itineraryService = new ItineraryService(tripService, itineraryRepository,
+            itineraryGeocoder, new TransactionTemplate(transactionManager), placeEnrichmentQueue, geocodingExecutor,
+            eventPublisher);
+    }
+
+    @Test
+    void 다른_사용자의_여행에는_장소를_변환하지_않고_거절한다() {
+        when(tripService.getTripByTripId(1L)).thenReturn(trip);
+
+        assertThatThrownBy(() -> itineraryService.insertItineraries(1L, 2L, List.of(stay(1))))
+            .isInstanceOf(TripException.class)
+            .extracting("errorCode").isEqualTo(TripExceptionCode.NOT_MATCH_BETWEEN_USER_AND_TRIP);
+        verifyNoInteractions(itineraryGeocoder, transactionManager);
+    }
+
+    @Test
+    void 여정_순서가_잘못되면_장소를_변환하지_않고_거절한다() {
+        when(tripService.getTripByTripId(1L)).thenReturn(trip);
+        when(itineraryRepository.findActiveOrdersByTripId(1L)).thenReturn(List.of(1));
+
+        assertThatThrownBy(() -> itineraryService.insertItineraries(1L, 1L, List.of(stay(1))))
+            .isInstanceOf(ItineraryException.class)
+            .extracting("errorCode").isEqualTo(ItineraryExceptionCode.DUPLICATE_ITINERARY_ORDER);
+        verifyNoInteractions(itineraryGeocoder, transactionManager);
+    }
+
+    @Test
+    void 다른_여행의_여정_수정은_장소를_변환하지_않고_거절한다() {
+        when(tripService.getTripByTripId(1L)).thenReturn(trip);
+        Stay otherTripStay = Stay.builder()
+            .itineraryId(10L).trip(trip(2L, 1L))
+            .itineraryName("도쿄 디즈니 월드").itineraryType(ItineraryType.STAY).itineraryOrder(1)
+            .baseTimeEntity(new BaseTimeEntity())
+            .build();
+        when(itineraryRepository.findAllById(List.of(10L))).thenReturn(List.of(otherTripStay));
+
+        ItineraryUpdateRequest req = ItineraryUpdateRequest.builder()
+            .itineraryId(10L).type(ItineraryType.STAY)
+            .name("오사카 유니버설 스튜디오").startDate(now).endDate(now).order(1)
+            .build();
+
+        assertThatThrownBy(() -> itineraryService.updateItineraries(1L, 1L, List.of(req)))
+            .isInstanceOf(ItineraryException.class)
+            .extracting("errorCode").isEqualTo(ItineraryExceptionCode.ITINERARY_NOT_MATCH_TRIP);
+        verifyNoInteractions(itineraryGeocoder, transactionManager);
+        assertThat(otherTripStay.getItineraryName()).isEqualTo("도쿄 디즈니 월드");
+    }
+
+    @Test
+    void 수정_시_장소가_바뀐_keyword_만_변환을_요청한다() {
+        Movement flight = Movement.builder()
+            .itineraryId(10L).trip(trip)
+            .itineraryName("비행기").itineraryType(ItineraryType.MOVEMENT).itineraryOrder(1)
+            .departureDate(now).arrivalDate(now)
+            .departurePlace("인천 공항").arrivalPlace("도쿄 공항")
+            .departurePlaceInfo("인천국제공항").arrivalPlaceInfo("하네다공항")
+            .baseTimeEntity(new BaseTimeEntity())
+            .build();
+        Stay timeChanged = storedStay(11L, 2);
+        trip.getItineraryList().addAll(List.of(flight, timeChanged));
+        when(tripService.getTripByTripId(1L)).thenReturn(trip);
+        when(tripService.getTripWithItineraries(1L)).thenReturn(trip);
+        when(itineraryRepository.findAllById(List.of(10L, 11L))).thenReturn(List.of(flight, timeChanged));
+        when(itineraryRepository.findById(10L)).thenReturn(Optional.of(flight));
+        when(itineraryRepository.findById(11L)).thenReturn(Optional.of(timeChanged));
+        when(itineraryRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+        when(itineraryGeocoder.resolveKeywordsWithinDeadline(keywordsCaptor.capture(), any()))
+            .thenReturn(new ResolvedPlaces(
+                Map.of("나리타 공항", Optional.of(new Document(null, 0, 0, null, "나리타국제공항", null, 0))),
+                Set.of()
+            ));
+
+        itineraryService.updateItineraries(1L, 1L, List.of(
+            ItineraryUpdateRequest.builder()
+                .itineraryId(10L).type(ItineraryType.MOVEMENT)
+                .name("비행기").startDate(now).endDate(now).order(1)
+                .departurePlace("인천 공항").arrivalPlace("나리타 공항")
+                .build(),
+            ItineraryUpdateRequest.builder()
+                .itineraryId(11L).type(ItineraryType.STAY)
+                .name("도쿄 디즈니 월드").startDate(now.plusDays(1)).endDate(now.plusDays(1)).order(2)
+                .build()
+        ));
+
+        assertThat(keywordsCaptor.getValue()).containsExactly("나리타 공항");
+        assertThat(flight.getDeparturePlaceInfo()).isEqualTo("인천국제공항");
+        assertThat(flight.getArrivalPlaceInfo()).isEqualTo("나리타국제공항");
+        verify(placeEnrichmentQueue, never()).enqueue(any());
+    }
+
+    @Test
+    void deadline_안에_변환하지_못한_여정만_나중에_채우도록_큐에_등록한다() {
+        when(tripService.getTripByTripId(1L)).thenReturn(trip);
+        when(tripService.getTripWithItineraries(1L)).thenReturn(trip);
+        when(itineraryRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
+        when(itineraryGeocoder.resolve(any(), any())).thenReturn(new ResolvedPlaces(
+            Map.of("도쿄 디즈니 월드", Optional.empty(),
+                "오사카 성", Optional.of(new Document(null, 0, 0, null, "오사카성", null, 0))),
+            Set.of("도쿄 디즈니 월드")
+        ));
+        ItineraryRequest osaka = ItineraryRequest.builder()
+            .name("오사카 성").type(ItineraryType.STAY)
+            .startDate(now).endDate(now).order(2)
+            .build();
+
+        itineraryService.insertItineraries(1L, 1L, List.of(stay(1), osaka));
+
+        verify(placeEnrichmentQueue).enqueue(enqueuedCaptor.capture());
+        assertThat(enqueuedCaptor.getValue())
+            .extracting(Itinerary::getItineraryName).containsExactly("도쿄 디즈니 월드");
+        assertThat(enqueuedCaptor.getValue()).allMatch(Itinerary::isPlaceInfoPending);
+    }
+
+    @Test
+    void kakao_조회가_실패해도_여정은_저장되고_나중에_채우도록_큐에_등록한다() {
+        itineraryService = new ItineraryService(tripService, itineraryRepository,
+            new ItineraryGeocoder(locationResolver, 3_000), new TransactionTemplate(transactionManager),
+            placeEnrichmentQueue, geocodingExecutor, eventPublisher);
+        when(geocodingExecutor.nonBlocking()).thenReturn(Runnable::run);
+        when(locationResolver.resolve(anyString()))
+            .thenThrow(new DefaultException(LOCATION_SEARCH_FAILED));   // ex. kakao read timeout
+        when(tripService.getTripByTripId(1L)).thenReturn(trip);
+        when(tripService.getTripWithItineraries(1L)).thenReturn(trip);
+        when(itineraryRepository.saveAll(any())).thenAnswer(i -> {
+            List<Itinerary> saved = i.getArgument(0);
+            for (int id = 0; id < saved.size(); id++) {
+                ReflectionTestUtils.setField(saved.get(id), "itineraryId", 10L + id);
+            }
+            return saved;
+        });
+
+        List<ItineraryResponse> responses = itineraryService.insertItineraries(1L, 1L, List.of(stay(1)));
+
+        assertThat(responses).hasSize(1).allMatch(ItineraryResponse::isPlaceInfoDegraded);
+        verify(placeEnrichmentQueue).enqueue(enqueuedCaptor.capture());
+        assertThat(enqueuedCaptor.getValue()).hasSize(1)
+            .allMatch(Itinerary::isPlaceInfoPending);
+    }
+
+    @Test
+    void async_모드에서는_장소를_변환하지_않고_저장한_여정을_큐에_등록한다() {
+        when(tripService.getTripByTripId(1L)).thenReturn(trip);
+        when(tripService.getTripWithItineraries(1L)).thenReturn(trip);
+        when(placeEnrichmentQueue.isEnabled()).thenReturn(true);
+        when(itineraryRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
+
+        itineraryService.insertItineraries(1L, 1L, List.of(stay(1), stay(2)));
+
+        verify(placeEnrichmentQueue).enqueue(enqueuedCaptor.capture());
+        assertThat(enqueuedCaptor.getValue()).hasSize(2)
+            .allMatch(Itinerary::isPlaceInfoPending);
+        verifyNoInteractions(itineraryGeocoder);
+    }
+
+    @Test
+    void async_모드의_수정은_장소가_바뀐_여정만_큐에_등록한다() {
+        Stay placeChanged = storedStay(10L, 1);
+        Stay timeChanged = storedStay(11L, 2);
+        trip.getItineraryList().addAll(List.of(placeChanged, timeChanged));
+        when(tripService.getTripByTripId(1L)).thenReturn(trip);
+        when(tripService.getTripWithItineraries(1L)).thenReturn(trip);
+        when(itineraryRepository.findAllById(List.of(10L, 11L)))
+            .thenReturn(List.of(placeChanged, timeChanged));
+        when(itineraryRepository.findById(10L)).thenReturn(Optional.of(placeChanged));
+        when(itineraryRepository.findById(11L)).thenReturn(Optional.of(timeChanged));
+        when(itineraryRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+        when(placeEnrichmentQueue.isEnabled()).thenReturn(true);
+
+        itineraryService.updateItineraries(1L, 1L, List.of(
+            ItineraryUpdateRequest.builder()
+                .itineraryId(10L).type(ItineraryType.STAY)
+                .name("오사카 유니버설 스튜디오").startDate(now).endDate(now).order(1)
+                .build(),
+            ItineraryUpdateRequest.builder()
+                .itineraryId(11L).type(ItineraryType.STAY)
+                .name("도쿄 디즈니 월드").startDate(now.plusDays(1)).endDate(now.plusDays(1)).order(2)
+                .build()
+        ));
+
+        verify(placeEnrichmentQueue).enqueue(List.of(placeChanged));
+        assertThat(placeChanged.isPlaceInfoPending()).isTrue();
+        assertThat(timeChanged.isPlaceInfoPending()).isFalse();
+        verifyNoInteractions(itineraryGeocoder);
+    }
+
+    private Stay storedStay(Long itineraryId, int order) {
+        return Stay.builder()
+            .itineraryId(itineraryId).trip(trip)
+            .itineraryName("도쿄 디즈니 월드").itineraryType(ItineraryType.STAY).itineraryOrder(order)
+            .placeInfo("도쿄 디즈니 월드")
+            .departureDate(now).arrivalDate(now)
+            .baseTimeEntity(new BaseTimeEntity())
+            .build();
+    }
+
+    private ItineraryRequest stay(int order) {
+        return ItineraryRequest.builder()
+            .name("도쿄 디즈니 월드").type(ItineraryType.STAY)
+            .startDate(now).endDate(now).order(order)
+            .build();
+    }
+
+    private static Trip trip(Long tripId, Long userId) {
+        return Trip.builder()
+            .tripId(tripId)
+            .tripName("일본여행")
+            .startDate(LocalDate.now())
+            .endDate(LocalDate.now())
+            .user(User.builder().userId(userId).build())
+            .itineraryList(new ArrayList<>())
+            .baseTimeEntity(new BaseTimeEntity())
+            .build();
+    }
+}
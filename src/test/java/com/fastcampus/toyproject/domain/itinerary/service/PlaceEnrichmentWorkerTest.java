@@ -0,0 +1,171 @@
+package com.fastcampus.toyproject.domain.itinerary.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fastcampus.toyproject.common.BaseTimeEntity;
+import com.fastcampus.toyproject.common.util.api.dto.Document;
+import com.fastcampus.toyproject.common.util.api.service.KakaoLocationClient;
+import com.fastcampus.toyproject.config.async.GeocodingExecutor;
+import com.fastcampus.toyproject.domain.itinerary.entity.PlaceEnrichmentTask;
+import com.fastcampus.toyproject.domain.itinerary.entity.Stay;
+import com.fastcampus.toyproject.domain.itinerary.repository.ItineraryRepository;
+import com.fastcampus.toyproject.domain.itinerary.repository.PlaceEnrichmentTaskRepository;
+import com.fastcampus.toyproject.domain.itinerary.type.ItineraryType;
+import com.fastcampus.toyproject.domain.itinerary.type.PlaceEnrichmentStatus;
+import com.fastcampus.toyproject.domain.trip.entity.Trip;
+import com.fastcampus.toyproject.domain.trip.event.TripChangedEvent;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("여정 위치 정보 변환 worker 테스트")
+class PlaceEnrichmentWorkerTest {
+
+    @Mock
+    private PlaceEnrichmentTaskRepository taskRepository;
+    @Mock
+    private ItineraryRepository itineraryRepository;
+    @Mock
+    private ItineraryGeocoder itineraryGeocoder;
+    @Mock
+    private KakaoLocationClient locationClient;
+    @Mock
+    private GeocodingExecutor geocodingExecutor;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private PlaceEnrichmentWorker worker;
+
+    private final Trip trip = Trip.builder().tripId(1L).baseTimeEntity(new BaseTimeEntity()).build();
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate transactionTemplate =
+            new TransactionTemplate(mock(PlatformTransactionManager.class));
+        worker = new PlaceEnrichmentWorker(taskRepository, itineraryRepository, itineraryGeocoder,
+            locationClient, geocodingExecutor, transactionTemplate, eventPublisher,
+            50, 5, 5_000, 60_000, 24);
+    }
+
+    @Test
+    void 장소_변환에_실패한_작업만_재시도하고_나머지는_완료한다() {
+        PlaceEnrichmentTask tokyoTask = task(1L, 10L);
+        PlaceEnrichmentTask osakaTask = task(2L, 11L);
+        Stay tokyo = stay(10L, "도쿄 디즈니 월드");
+        Stay osaka = stay(11L, "오사카 성");
+        givenClaimable(tokyoTask, osakaTask);
+        when(itineraryRepository.findAllById(List.of(10L, 11L))).thenReturn(List.of(tokyo, osaka));
+
+        Map<String, Optional<Document>> places = new LinkedHashMap<>();
+        places.put("도쿄 디즈니 월드", Optional.of(place("도쿄 디즈니 월드 위치")));
+        places.put("오사카 성", Optional.empty());
+        when(itineraryGeocoder.resolveKeywords(any(), eq(geocodingExecutor)))
+            .thenReturn(new ResolvedPlaces(places, Set.of("오사카 성")));
+
+        when(taskRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(tokyoTask, osakaTask));
+        when(itineraryRepository.findById(10L)).thenReturn(Optional.of(tokyo));
+        when(itineraryRepository.findById(11L)).thenReturn(Optional.of(osaka));
+
+        worker.enrichPendingPlaces();
+
+        assertThat(tokyoTask.getStatus()).isEqualTo(PlaceEnrichmentStatus.DONE);
+        assertThat(tokyo.getPlaceInfo()).isEqualTo("도쿄 디즈니 월드 위치");
+        assertThat(tokyo.isPlaceInfoPending()).isFalse();
+
+        assertThat(osakaTask.getStatus()).isEqualTo(PlaceEnrichmentStatus.PENDING);
+        assertThat(osakaTask.getAttempts()).isEqualTo(1);
+        assertThat(osakaTask.getLastError()).contains("오사카 성");
+        assertThat(osaka.isPlaceInfoPending()).isTrue();
+        verify(eventPublisher, times(1)).publishEvent(any(TripChangedEvent.class));
+    }
+
+    @Test
+    void 가져간_작업은_lease_동안_다른_worker_에게_보이지_않는다() {
+        PlaceEnrichmentTask task = task(1L, 10L);
+        givenClaimable(task);
+        when(itineraryRepository.findAllById(List.of(10L)))
+            .thenReturn(List.of(stay(10L, "도쿄 디즈니 월드")));
+        when(itineraryGeocoder.resolveKeywords(any(), eq(geocodingExecutor)))
+            .thenThrow(new IllegalStateException("worker 오류"));
+
+        LocalDateTime before = LocalDateTime.now();
+        worker.enrichPendingPlaces();
+
+        // 처리 중 실패해도 lease 가 끝나면 다시 처리된다.
+        assertThat(task.getStatus()).isEqualTo(PlaceEnrichmentStatus.PENDING);
+        assertThat(task.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(60));
+    }
+
+    @Test
+    void kakao_장애_중에는_작업을_가져가지_않는다() {
+        when(locationClient.isAvailable()).thenReturn(false);
+
+        worker.enrichPendingPlaces();
+
+        verifyNoInteractions(taskRepository, itineraryGeocoder);
+    }
+
+    @Test
+    void 보관_기간이_지난_완료_작업을_삭제한다() {
+        ArgumentCaptor<LocalDateTime> completedBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(taskRepository.deleteCompletedBefore(eq(PlaceEnrichmentStatus.DONE), completedBefore.capture()))
+            .thenReturn(3);
+
+        worker.purgeCompletedTasks();
+
+        assertThat(completedBefore.getValue()).isBefore(LocalDateTime.now().minusHours(23));
+    }
+
+    private void givenClaimable(PlaceEnrichmentTask... tasks) {
+        when(locationClient.isAvailable()).thenReturn(true);
+        when(taskRepository.findClaimableTasks(eq(PlaceEnrichmentStatus.PENDING), any(), any()))
+            .thenReturn(List.of(tasks));
+    }
+
+    private static PlaceEnrichmentTask task(Long taskId, Long itineraryId) {
+        return PlaceEnrichmentTask.builder()
+            .taskId(taskId)
+            .itineraryId(itineraryId)
+            .status(PlaceEnrichmentStatus.PENDING)
+            .attempts(0)
+            .nextAttemptAt(LocalDateTime.now())
+            .baseTimeEntity(new BaseTimeEntity())
+            .build();
+    }
+
+    private Stay stay(Long itineraryId, String name) {
+        Stay stay = Stay.builder()
+            .itineraryId(itineraryId).trip(trip)
+            .itineraryName(name).itineraryType(ItineraryType.STAY).itineraryOrder(1)
+            .placeInfo(name)
+            .baseTimeEntity(new BaseTimeEntity())
+            .build();
+        stay.markPlaceInfoPending();
+        return stay;
+    }
+
+    private static Document place(String placeName) {
+        return new Document(null, 0, 0, null, placeName, null, 0);
+    }
+}
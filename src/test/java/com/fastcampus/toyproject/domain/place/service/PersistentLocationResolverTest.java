@@ -0,0 +1,93 @@
+package com.fastcampus.toyproject.domain.place.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fastcampus.toyproject.common.util.api.dto.Document;
+import com.fastcampus.toyproject.common.util.api.resolver.LocationResolver;
+import com.fastcampus.toyproject.domain.place.entity.Place;
+import com.fastcampus.toyproject.domain.place.repository.PlaceRepository;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+@DisplayName("장소 테이블 사전 테스트")
+class PersistentLocationResolverTest {
+
+    @Mock
+    private PlaceRepository placeRepository;
+
+    @Mock
+    private LocationResolver remote;
+
+    private PlaceDictionary placeDictionary;
+    private PersistentLocationResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        placeDictionary = new PlaceDictionary(placeRepository);
+        resolver = new PersistentLocationResolver(remote, placeDictionary);
+    }
+
+    @Test
+    void 시작_시_적재한_장소는_원격_호출하지_않는다() {
+        when(placeRepository.findAll()).thenReturn(List.of(
+            Place.of("서울역", place("서울역 경부선"))
+        ));
+
+        placeDictionary.warmUp();
+
+        assertThat(resolver.resolvePlaceName(" 서울역")).isEqualTo("서울역 경부선");
+        verify(remote, never()).resolve(anyString());
+    }
+
+    @Test
+    void 새로_찾은_장소는_테이블에_한번만_저장한다() {
+        when(remote.resolve(anyString())).thenReturn(Optional.of(place("제주국제공항")));
+
+        assertThat(resolver.resolvePlaceName("제주공항")).isEqualTo("제주국제공항");
+        assertThat(resolver.resolvePlaceName("제주공항")).isEqualTo("제주국제공항");
+
+        verify(remote, times(1)).resolve(anyString());
+        verify(placeRepository, times(1)).save(any(Place.class));
+        assertThat(placeDictionary.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 검색_결과가_없으면_저장하지_않는다() {
+        when(remote.resolve(anyString())).thenReturn(Optional.empty());
+
+        assertThat(resolver.resolvePlaceName("없는 장소")).isEqualTo("없는 장소");
+        verify(placeRepository, never()).save(any(Place.class));
+    }
+
+    @Test
+    void 테이블_저장에_실패해도_장소를_반환하고_다음_조회에서_다시_저장한다() {
+        when(remote.resolve(anyString())).thenReturn(Optional.of(place("제주국제공항")));
+        when(placeRepository.save(any(Place.class)))
+            .thenThrow(new DataAccessResourceFailureException("connection refused"))
+            .thenAnswer(i -> i.getArgument(0));
+
+        assertThat(resolver.resolvePlaceName("제주공항")).isEqualTo("제주국제공항");
+        assertThat(placeDictionary.size()).isZero();
+
+        assertThat(resolver.resolvePlaceName("제주공항")).isEqualTo("제주국제공항");
+        verify(placeRepository, times(2)).save(any(Place.class));
+        assertThat(placeDictionary.size()).isEqualTo(1);
+    }
+
+    private static Document place(String placeName) {
+        return new Document("주소", 126.97, 37.55, null, placeName, null, 0);
+    }
+}
@@ -0,0 +1,147 @@
+package com.fastcampus.toyproject.domain.trip.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fastcampus.toyproject.common.BaseTimeEntity;
+import com.fastcampus.toyproject.domain.itinerary.entity.Itinerary;
+import com.fastcampus.toyproject.domain.itinerary.entity.Lodgement;
+import com.fastcampus.toyproject.domain.itinerary.entity.Movement;
+import com.fastcampus.toyproject.domain.itinerary.entity.Stay;
+import com.fastcampus.toyproject.domain.itinerary.type.ItineraryType;
+import com.fastcampus.toyproject.domain.trip.entity.Trip;
+import com.fastcampus.toyproject.domain.user.entity.Authority;
+import com.fastcampus.toyproject.domain.user.entity.User;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * 여정이 많은 여행의 상세 조회 시간 측정.
+ * 같은 테스트를 JOINED 전략에서 실행한 결과와 로그의 평균 시간을 비교한다.
+ * 로컬 MySQL 이 필요하므로 일반 빌드에서는 제외된다. 실행 : ./gradlew benchmarkTest
+ */
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@TestPropertySource(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.show_sql=false"
+})
+@DisplayName("여행 상세 조회 시간 측정")
+public class TripDetailReadBenchmarkTest {
+
+    private static final int ITINERARY_COUNT = 60;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 100;
+
+    @Autowired
+    private TripRepository tripRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    @DisplayName("여정 60개 여행 상세 조회는 한 번의 쿼리로 모든 타입을 읽는다")
+    void trip_detail_with_many_itineraries() {
+        Long tripId = saveTripWithItineraries();
+        Statistics statistics = em.getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+
+        for (int i = 0; i < WARMUP; i++) {
+            readItineraries(tripId);
+        }
+
+        statistics.clear();
+        long start = System.nanoTime();
+        List<Itinerary> itineraries = null;
+        for (int i = 0; i < ITERATIONS; i++) {
+            itineraries = readItineraries(tripId);
+        }
+        long averageMicros = (System.nanoTime() - start) / ITERATIONS / 1_000;
+        log.info("[TripDetailReadBenchmark] itineraries: {}, avg: {}us, statements/read: {}",
+            ITINERARY_COUNT, averageMicros,
+            statistics.getPrepareStatementCount() / ITERATIONS);
+
+        assertThat(itineraries).hasSize(ITINERARY_COUNT);
+        assertThat(itineraries).hasAtLeastOneElementOfType(Movement.class)
+            .hasAtLeastOneElementOfType(Lodgement.class)
+            .hasAtLeastOneElementOfType(Stay.class);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(ITERATIONS);
+    }
+
+    private List<Itinerary> readItineraries(Long tripId) {
+        em.clear();
+        List<Itinerary> itineraries = tripRepository.findWithItinerariesByTripId(tripId).get()
+            .getItineraryList();
+        itineraries.size();
+        return itineraries;
+    }
+
+    private Long saveTripWithItineraries() {
+        User user = User.builder()
+            .email("benchmark@mail.com")
+            .password("1234")
+            .authority(Authority.ROLE_USER)
+            .build();
+        em.persist(user);
+
+        Trip trip = Trip.builder()
+            .tripName("긴 여행")
+            .startDate(LocalDate.now())
+            .endDate(LocalDate.now().plusDays(30))
+            .isDomestic(false)
+            .user(user)
+            .baseTimeEntity(new BaseTimeEntity())
+            .build();
+        em.persist(trip);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int order = 1; order <= ITINERARY_COUNT; order++) {
+            em.persist(itinerary(trip, order, now));
+        }
+        em.flush();
+        em.clear();
+        return trip.getTripId();
+    }
+
+    private static Itinerary itinerary(Trip trip, int order, LocalDateTime now) {
+        switch (order % 3) {
+            case 0:
+                return Movement.builder()
+                    .trip(trip).itineraryName("이동" + order)
+                    .itineraryType(ItineraryType.MOVEMENT).itineraryOrder(order)
+                    .departureDate(now).arrivalDate(now)
+                    .departurePlace("출발" + order).arrivalPlace("도착" + order)
+                    .baseTimeEntity(new BaseTimeEntity())
+                    .build();
+            case 1:
+                return Lodgement.builder()
+                    .trip(trip).itineraryName("숙박" + order)
+                    .itineraryType(ItineraryType.LODGEMENT).itineraryOrder(order)
+                    .checkIn(now).checkOut(now)
+                    .baseTimeEntity(new BaseTimeEntity())
+                    .build();
+            default:
+                return Stay.builder()
+                    .trip(trip).itineraryName("체류" + order)
+                    .itineraryType(ItineraryType.STAY).itineraryOrder(order)
+                    .departureDate(now).arrivalDate(now)
+                    .baseTimeEntity(new BaseTimeEntity())
+                    .build();
+        }
+    }
+}
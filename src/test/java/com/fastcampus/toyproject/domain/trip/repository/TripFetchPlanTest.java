@@ -0,0 +1,140 @@
+package com.fastcampus.toyproject.domain.trip.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fastcampus.toyproject.common.BaseTimeEntity;
+import com.fastcampus.toyproject.domain.itinerary.entity.Itinerary;
+import com.fastcampus.toyproject.domain.itinerary.entity.Stay;
+import com.fastcampus.toyproject.domain.itinerary.type.ItineraryType;
+import com.fastcampus.toyproject.domain.trip.entity.Trip;
+import com.fastcampus.toyproject.domain.user.entity.Authority;
+import com.fastcampus.toyproject.domain.user.entity.User;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("여행 조회 fetch plan 테스트")
+public class TripFetchPlanTest {
+
+    private static final int TRIP_COUNT = 100;
+
+    @Autowired
+    private TripRepository tripRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private User user;
+
+    @BeforeEach
+    public void setup() {
+        user = User.builder()
+            .email("batch@mail.com")
+            .password("1234")
+            .authority(Authority.ROLE_USER)
+            .build();
+        em.persist(user);
+
+        for (int i = 0; i < TRIP_COUNT; i++) {
+            Trip trip = Trip.builder()
+                .tripName("여행" + i)
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now())
+                .isDomestic(true)
+                .user(user)
+                .baseTimeEntity(new BaseTimeEntity())
+                .build();
+            em.persist(trip);
+            for (int order = 1; order <= 2; order++) {
+                em.persist(stay(trip, order));
+            }
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("여행 100개의 여정/댓글을 초기화해도 쿼리 수는 일정하다")
+    void trip_list_statement_count() {
+        Statistics statistics = em.getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Trip> trips = tripRepository.findAll();
+        int itineraryCount = 0;
+        int replyCount = 0;
+        for (Trip trip : trips) {
+            itineraryCount += trip.getItineraryList().size();
+            replyCount += trip.getReplyList().size();
+        }
+
+        assertThat(trips).hasSizeGreaterThanOrEqualTo(TRIP_COUNT);
+        assertThat(itineraryCount).isGreaterThanOrEqualTo(TRIP_COUNT * 2);
+        // trip 1번 + 여정 batch + 댓글 batch (trip 수에 비례하지 않음)
+        long batches = (trips.size() + 99) / 100;
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(1 + 2 * batches);
+    }
+
+    @Test
+    @DisplayName("여정은 삭제된 것을 제외하고 순서대로 조회된다")
+    void itineraries_ordered_without_deleted() {
+        Trip trip = Trip.builder()
+            .tripName("순서 여행")
+            .startDate(LocalDate.now())
+            .endDate(LocalDate.now())
+            .isDomestic(true)
+            .user(user)
+            .baseTimeEntity(new BaseTimeEntity())
+            .build();
+        em.persist(trip);
+        for (int order : new int[]{3, 1, 2}) {
+            em.persist(stay(trip, order));
+        }
+        // deletedAt 은 insert 되지 않으므로 (insertable = false) 저장 후 삭제 처리
+        Stay deleted = stay(trip, 4);
+        em.persist(deleted);
+        em.flush();
+        deleted.delete();
+        em.flush();
+        em.clear();
+
+        Long deletedCount = em.createQuery("SELECT COUNT(i) FROM Itinerary i "
+                + "WHERE i.trip.tripId = :tripId AND i.baseTimeEntity.deletedAt IS NOT NULL", Long.class)
+            .setParameter("tripId", trip.getTripId())
+            .getSingleResult();
+        assertThat(deletedCount).isEqualTo(1L);
+
+        Trip result = tripRepository.findWithItinerariesByTripId(trip.getTripId()).get();
+
+        assertThat(result.getItineraryList())
+            .extracting(Itinerary::getItineraryOrder)
+            .containsExactly(1, 2, 3);
+    }
+
+    private static Stay stay(Trip trip, int order) {
+        LocalDateTime now = LocalDateTime.now();
+        return Stay.builder()
+            .trip(trip)
+            .itineraryName("체류" + order)
+            .itineraryType(ItineraryType.STAY)
+            .itineraryOrder(order)
+            .departureDate(now)
+            .arrivalDate(now)
+            .baseTimeEntity(new BaseTimeEntity())
+            .build();
+    }
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import com.fastcampus.toyproject.common.BaseTimeEntity;
+import com.fastcampus.toyproject.domain.trip.dto.TripResponse;
 import com.fastcampus.toyproject.domain.trip.entity.Trip;
 import com.fastcampus.toyproject.domain.user.entity.User;
 import java.time.LocalDate;
@@ -163,6 +164,22 @@ public class TripRepositoryTest {
 
     }
 
+    @Test
+    @DisplayName("여행 검색어로 TripResponse 조회 시 삭제된 여행은 DB 에서 제외")
+    void trip_by_keyword_without_deleted(){
+
+        //given
+        String keyword = "일본";
+        //when
+        List<TripResponse> result = tripRepository.findTripResponsesByKeyword(keyword);
+        //then
+
+        assertThat(result)
+            .extracting("tripId")
+            .contains(trip.getTripId(), trip2.getTripId())
+            .doesNotContain(trip_deleted.getTripId());
+    }
+
 
 
 }
@@ -0,0 +1,166 @@
+package com.fastcampus.toyproject.domain.trip.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fastcampus.toyproject.domain.trip.dto.TripDetailResponse;
+import com.fastcampus.toyproject.domain.trip.event.TripChangedEvent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("여행 상세 캐시 테스트")
+class TripDetailCacheTest {
+
+    private final TripDetailCache cache = new TripDetailCache(10, Duration.ofMinutes(1));
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @Test
+    void 두번째_조회부터는_캐시에서_반환한다() {
+        TripDetailResponse first = cache.get(1L, () -> load(1L));
+        TripDetailResponse second = cache.get(1L, () -> load(1L));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(cache.stats().getHitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    void 변경_이벤트를_받으면_해당_여행만_무효화한다() {
+        cache.get(1L, () -> load(1L));
+        cache.get(2L, () -> load(2L));
+
+        cache.onTripChanged(new TripChangedEvent(1L));
+        cache.get(1L, () -> load(1L));
+        cache.get(2L, () -> load(2L));
+
+        assertThat(loadCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    void 조회_중에_무효화되면_읽은_값을_저장하지_않는다() {
+        cache.get(1L, () -> {
+            TripDetailResponse response = load(1L);
+            cache.evict(1L);
+            return response;
+        });
+        cache.get(1L, () -> load(1L));
+
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 무효화_이후의_조회는_무효화_전에_시작된_조회에_합류하지_않는다() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TripDetailResponse beforeCommit = TripDetailResponse.builder().tripId(1L).version("v1").build();
+        TripDetailResponse afterCommit = TripDetailResponse.builder().tripId(1L).version("v2").build();
+
+        CompletableFuture<TripDetailResponse> stale = CompletableFuture.supplyAsync(() ->
+            cache.get(1L, () -> {
+                started.countDown();
+                await(release);
+                return beforeCommit;
+            }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        cache.onTripChanged(new TripChangedEvent(1L));
+        TripDetailResponse fresh = cache.get(1L, () -> afterCommit);
+        release.countDown();
+
+        assertThat(fresh).isSameAs(afterCommit);
+        assertThat(stale.get(5, TimeUnit.SECONDS)).isSameAs(beforeCommit);
+        assertThat(cache.getCoalescedCount()).isZero();
+        assertThat(cache.get(1L, () -> load(1L))).isSameAs(afterCommit);
+    }
+
+    @Test
+    void 같은_여행의_동시_미스는_한번만_조회한다() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        int threadCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+        List<CompletableFuture<TripDetailResponse>> results = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> cache.get(1L, () -> {
+                await(release);
+                return load(1L);
+            }), executor));
+        }
+
+        // 나머지 요청이 모두 진행 중인 조회에 합류할 때까지 대기
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (cache.getCoalescedCount() < threadCount - 1
+            && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+
+        for (CompletableFuture<TripDetailResponse> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS).getTripId()).isEqualTo(1L);
+        }
+        assertThat(loadCount.get()).isEqualTo(1);
+        executor.shutdown();
+    }
+
+    @Test
+    void 갱신_시점이_지나면_기존_값을_반환하고_백그라운드에서_한번만_갱신한다() {
+        AtomicLong now = new AtomicLong();
+        List<Runnable> refreshTasks = new ArrayList<>();
+        TripDetailCache microCache = new TripDetailCache(
+            10, Duration.ofMinutes(1), Duration.ofSeconds(5), refreshTasks::add, now::get
+        );
+        TripDetailResponse first = microCache.get(1L, () -> load(1L));
+
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+        TripDetailResponse stale = microCache.get(1L, () -> load(1L));
+        microCache.get(1L, () -> load(1L));
+
+        assertThat(stale).isSameAs(first);
+        assertThat(refreshTasks).hasSize(1);
+        assertThat(loadCount.get()).isEqualTo(1);
+
+        refreshTasks.get(0).run();
+        TripDetailResponse refreshed = microCache.get(1L, () -> load(1L));
+
+        assertThat(refreshed).isNotSameAs(first);
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(microCache.getRefreshCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 갱신_시점_전의_항목만_버전을_반환한다() {
+        AtomicLong now = new AtomicLong();
+        TripDetailCache microCache = new TripDetailCache(
+            10, Duration.ofMinutes(1), Duration.ofSeconds(5), Runnable::run, now::get
+        );
+        microCache.get(1L, () -> TripDetailResponse.builder().tripId(1L).version("v1").build());
+
+        assertThat(microCache.getFreshVersion(1L)).isEqualTo("v1");
+        assertThat(microCache.getFreshVersion(2L)).isNull();
+
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertThat(microCache.getFreshVersion(1L)).isNull();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private TripDetailResponse load(Long tripId) {
+        loadCount.incrementAndGet();
+        return TripDetailResponse.builder().tripId(tripId).build();
+    }
+}
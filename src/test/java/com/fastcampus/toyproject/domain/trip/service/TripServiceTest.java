@@ -19,6 +19,7 @@ import com.fastcampus.toyproject.domain.itinerary.entity.Lodgement;
 import com.fastcampus.toyproject.domain.itinerary.service.ItineraryService;
 import com.fastcampus.toyproject.domain.itinerary.type.ItineraryType;
 import com.fastcampus.toyproject.domain.trip.dto.TripDetailResponse;
+import com.fastcampus.toyproject.domain.trip.dto.TripPageResponse;
 import com.fastcampus.toyproject.domain.trip.dto.TripRequest;
 import com.fastcampus.toyproject.domain.trip.dto.TripResponse;
 import com.fastcampus.toyproject.domain.trip.entity.Trip;
@@ -28,6 +29,7 @@ import com.fastcampus.toyproject.domain.trip.repository.TripRepository;
 import com.fastcampus.toyproject.domain.user.entity.User;
 import com.fastcampus.toyproject.domain.user.repository.UserRepository;
 import com.fastcampus.toyproject.domain.user.service.UserService;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -44,6 +46,8 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionOperations;
 
 @SpringBootTest
 @ExtendWith(MockitoExtension.class)
@@ -126,7 +130,9 @@ class TripServiceTest {
         itineraryRequestList.add(ir2);
         itineraryRequestList.add(ir3);
 
-        tripService = new TripService(tripRepository, userRepository);
+        tripService = new TripService(tripRepository, userRepository,
+            new TripDetailCache(100, Duration.ofMinutes(1)), event -> { },
+            TransactionOperations.withoutTransaction());
 
     }
 
@@ -141,13 +147,49 @@ class TripServiceTest {
             //given
 
             //when
-            when(tripRepository.findAll()).thenReturn(List.of(trip, trip_deleted));
-            List<TripResponse> result = tripService.getAllTrips();
+            when(tripRepository.findTripResponsesAfterCursor(0L, PageRequest.of(0, 21)))
+                .thenReturn(List.of(TripResponse.fromEntity(trip)));
+            TripPageResponse result = tripService.getAllTrips(null, 20);
 
             //then
-            assertThat(result)
+            assertThat(result.getTrips())
                 .usingRecursiveComparison()
                 .isEqualTo(List.of(TripResponse.fromEntity(trip)));
+            assertThat(result.getHasNext()).isFalse();
+            assertThat(result.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("여행 전체 조회 시 다음 페이지가 있으면 cursor 반환")
+        void selectTrips_nextCursor(){
+            //given
+            Trip nextTrip = Trip.builder()
+                .tripId(2L)
+                .tripName("제주여행")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now())
+                .baseTimeEntity(new BaseTimeEntity())
+                .user(user)
+                .build();
+
+            //when
+            when(tripRepository.findTripResponsesAfterCursor(0L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(TripResponse.fromEntity(trip), TripResponse.fromEntity(nextTrip)));
+            TripPageResponse result = tripService.getAllTrips(null, 1);
+
+            //then
+            assertThat(result.getTrips()).hasSize(1);
+            assertThat(result.getHasNext()).isTrue();
+            assertThat(TripPageResponse.decodeCursor(result.getNextCursor())).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("잘못된 cursor 로 여행 전체 조회 시 실패")
+        void selectTrips_invalidCursor(){
+            assertThatExceptionOfType(TripException.class)
+                .isThrownBy(() -> tripService.getAllTrips("!!", 20))
+                .extracting("errorCode")
+                .isEqualTo(TripExceptionCode.INVALID_TRIP_CURSOR);
         }
 
 
@@ -159,7 +201,7 @@ class TripServiceTest {
             Long tripId = 1L;
 
             //when
-            when(tripRepository.findById(anyLong())).thenReturn(Optional.ofNullable(trip));
+            when(tripRepository.findWithItinerariesByTripId(anyLong())).thenReturn(Optional.ofNullable(trip));
             TripDetailResponse tripDetailResponse = tripService.getTripDetail(tripId);
 
             //then
@@ -184,7 +226,7 @@ class TripServiceTest {
             Long id = 1L;
 
             //when
-            when(tripRepository.findById(anyLong())).thenThrow(new TripException(NO_SUCH_TRIP));
+            when(tripRepository.findWithItinerariesByTripId(anyLong())).thenThrow(new TripException(NO_SUCH_TRIP));
 
             //then
             assertThatExceptionOfType(TripException.class)
@@ -203,7 +245,7 @@ class TripServiceTest {
             Long id = 1L;
 
             //when
-            when(tripRepository.findById(anyLong())).thenReturn(Optional.of(trip_deleted));
+            when(tripRepository.findWithItinerariesByTripId(anyLong())).thenReturn(Optional.of(trip_deleted));
 
             //then
             assertThatExceptionOfType(TripException.class)
@@ -222,8 +264,8 @@ class TripServiceTest {
             String keyword = "여행";
 
             //when
-            when(tripRepository.findByTripNameContains(anyString())).thenReturn(
-                Optional.of(List.of(trip, trip_deleted)));
+            when(tripRepository.findTripResponsesByKeyword(anyString()))
+                .thenReturn(List.of(TripResponse.fromEntity(trip)));
 
             Optional<List<TripResponse>> result
                 = tripService.getTripByKeyword(keyword);
@@ -347,7 +389,7 @@ class TripServiceTest {
         void deleteTrip_success(){
             //given
             //when
-            when(tripRepository.findById(anyLong())).thenReturn(Optional.of(trip));
+            when(tripRepository.findWithItinerariesByTripId(anyLong())).thenReturn(Optional.of(trip));
             when(tripRepository.save(any(Trip.class))).thenReturn(trip);
             TripResponse result = tripService.deleteTrip(1L,1L);
 